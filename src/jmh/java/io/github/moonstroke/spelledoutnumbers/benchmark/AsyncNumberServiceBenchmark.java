@@ -0,0 +1,97 @@
+package io.github.moonstroke.spelledoutnumbers.benchmark;
+
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.moonstroke.spelledoutnumbers.AsyncNumberService;
+import io.github.moonstroke.spelledoutnumbers.NumberSpeller;
+import io.github.moonstroke.spelledoutnumbers.NumericTextParser;
+
+/**
+ * Latency distribution of the transcription of huge values under concurrent requests: through the asynchronous
+ * facade, that coalesces the requests for the same value, against a future per request on the same executor. The
+ * requests are drawn from a set of hot values, all the more often repeated concurrently as the set is small.
+ *
+ * The percentiles of the sampled times, p99 among them, are reported along with the mean.
+ *
+ * @author Moonstroke
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class AsyncNumberServiceBenchmark {
+	@Param({"4", "1024"})
+	public int hotValuesCount;
+
+	private NumberSpeller speller;
+	private double[] values;
+	private ExecutorService executor;
+	private AsyncNumberService service;
+
+
+	@Setup
+	public void setUp() {
+		speller = NumberSpeller.getNumberSpellerFor(Locale.US);
+		values = Inputs.Range.HUGE.generate();
+		executor = Executors.newFixedThreadPool(4);
+		service = new AsyncNumberService(speller, NumericTextParser.getTextParserFor(Locale.US), executor);
+	}
+
+	@TearDown
+	public void tearDown() {
+		executor.shutdown();
+	}
+
+	@Benchmark
+	public String coalesced(Requester requester) {
+		return service.spellOut(values[requester.next(hotValuesCount)]).join();
+	}
+
+	@Benchmark
+	public String futurePerRequest(Requester requester) {
+		double value = values[requester.next(hotValuesCount)];
+		return CompletableFuture.supplyAsync(() -> speller.spellOut(value), executor).join();
+	}
+
+
+	/* The index of the next value requested by a thread, each thread starting at its own offset */
+	@State(Scope.Thread)
+	public static class Requester {
+		private static int threadsCount = 0;
+
+		private int index;
+
+
+		@Setup
+		public void setUp() {
+			synchronized (Requester.class) {
+				index = 7 * threadsCount++;
+			}
+		}
+
+		int next(int hotValuesCount) {
+			return index++ % hotValuesCount;
+		}
+	}
+}
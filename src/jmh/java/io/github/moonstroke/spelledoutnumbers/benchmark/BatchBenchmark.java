@@ -0,0 +1,90 @@
+package io.github.moonstroke.spelledoutnumbers.benchmark;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.moonstroke.spelledoutnumbers.NumberSpeller;
+import io.github.moonstroke.spelledoutnumbers.NumericTextParser;
+
+/**
+ * Scaling of the batch transcription and parsing of arrays with the count of workers. The parallel operations are run
+ * from within a dedicated pool, so that they use its parallelism.
+ *
+ * @author Moonstroke
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchBenchmark {
+	private static final int SIZE = 100_000;
+
+	@Param({"1", "2", "4", "8", "16"})
+	public int parallelism;
+
+	private NumberSpeller speller;
+	private NumericTextParser parser;
+	private ForkJoinPool pool;
+	private final double[] values = new double[SIZE];
+	private final String[] transcriptions = new String[SIZE];
+	private final double[] parsedValues = new double[SIZE];
+	private final NumberFormatException[] errors = new NumberFormatException[SIZE];
+
+
+	@Setup
+	public void setUp() {
+		speller = NumberSpeller.getNumberSpellerFor(Locale.US);
+		parser = NumericTextParser.getTextParserFor(Locale.US);
+		pool = new ForkJoinPool(parallelism);
+		/* Integral amounts up to a billion */
+		SplittableRandom random = new SplittableRandom(0);
+		for (int i = 0; i < SIZE; ++i) {
+			values[i] = random.nextLong(1_000_000_000L);
+		}
+		speller.spellOut(values, transcriptions);
+	}
+
+	@TearDown
+	public void tearDown() {
+		pool.shutdown();
+	}
+
+	@Benchmark
+	public String[] sequentialSpellOut() {
+		speller.spellOut(values, transcriptions);
+		return transcriptions;
+	}
+
+	@Benchmark
+	public String[] parallelSpellOut() {
+		pool.submit(() -> speller.parallelSpellOut(values, transcriptions)).join();
+		return transcriptions;
+	}
+
+	@Benchmark
+	public int sequentialParse() {
+		return parser.parse(transcriptions, parsedValues, errors);
+	}
+
+	@Benchmark
+	public int parallelParse() {
+		return pool.submit(() -> parser.parallelParse(transcriptions, parsedValues, errors)).join();
+	}
+}
@@ -0,0 +1,47 @@
+package io.github.moonstroke.spelledoutnumbers.benchmark;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar.
+ *
+ * It accepts the same arguments as the JMH runner, and additionally always records the allocation rate and the GC
+ * activity of the benchmarks (the {@code gc} profiler), and writes the results in JSON to {@code jmh-result.json}
+ * unless another result file is specified.
+ *
+ * @author Moonstroke
+ */
+public final class BenchmarkRunner {
+	private BenchmarkRunner() {}
+
+	public static void main(String[] args) throws CommandLineOptionException, IOException, RunnerException {
+		CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+		if (commandLineOptions.shouldHelp() || commandLineOptions.shouldList()
+		    || commandLineOptions.shouldListWithParams() || commandLineOptions.shouldListProfilers()
+		    || commandLineOptions.shouldListResultFormats()) {
+			/* Not a run */
+			Main.main(args);
+			return;
+		}
+		OptionsBuilder optionsBuilder = new OptionsBuilder();
+		optionsBuilder.parent(commandLineOptions).addProfiler(GCProfiler.class);
+		if (!commandLineOptions.getResult().hasValue()) {
+			optionsBuilder.result("jmh-result.json");
+		}
+		if (!commandLineOptions.getResultFormat().hasValue()) {
+			optionsBuilder.resultFormat(ResultFormatType.JSON);
+		}
+		Options options = optionsBuilder.build();
+		new Runner(options).run();
+	}
+}
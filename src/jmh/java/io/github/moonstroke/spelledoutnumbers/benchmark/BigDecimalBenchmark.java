@@ -0,0 +1,75 @@
+package io.github.moonstroke.spelledoutnumbers.benchmark;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.moonstroke.spelledoutnumbers.NumberSpeller;
+import io.github.moonstroke.spelledoutnumbers.NumericTextParser;
+
+/**
+ * Cost of the exact decimal transcription and parsing, against the same values through the double methods.
+ *
+ * @author Moonstroke
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BigDecimalBenchmark {
+	@Param({"SMALL_INTEGERS", "LONG_RANGE", "FRACTIONAL"})
+	public Inputs.Range range;
+
+	private NumberSpeller speller;
+	private NumericTextParser parser;
+	private double[] doubleValues;
+	private final BigDecimal[] decimalValues = new BigDecimal[Inputs.SIZE];
+	private final String[] transcriptions = new String[Inputs.SIZE];
+	private int index = 0;
+
+
+	@Setup
+	public void setUp() {
+		speller = NumberSpeller.getNumberSpellerFor(Locale.US);
+		parser = NumericTextParser.getTextParserFor(Locale.US);
+		doubleValues = range.generate();
+		for (int i = 0; i < Inputs.SIZE; ++i) {
+			decimalValues[i] = BigDecimal.valueOf(doubleValues[i]);
+			transcriptions[i] = speller.spellOut(doubleValues[i]);
+		}
+	}
+
+	@Benchmark
+	public String spellOutBigDecimal() {
+		return speller.spellOut(decimalValues[index++ & Inputs.SIZE - 1]);
+	}
+
+	@Benchmark
+	public String spellOutDouble() {
+		return speller.spellOut(doubleValues[index++ & Inputs.SIZE - 1]);
+	}
+
+	@Benchmark
+	public BigDecimal parseBigDecimal() {
+		return parser.parseBigDecimal(transcriptions[index++ & Inputs.SIZE - 1]);
+	}
+
+	@Benchmark
+	public double parseDouble() {
+		return parser.parse(transcriptions[index++ & Inputs.SIZE - 1]);
+	}
+}
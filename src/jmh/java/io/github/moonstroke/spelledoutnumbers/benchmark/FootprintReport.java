@@ -0,0 +1,89 @@
+package io.github.moonstroke.spelledoutnumbers.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Locale;
+
+import io.github.moonstroke.spelledoutnumbers.SpelledOutNumber;
+
+/**
+ * Report of the heap footprint of spelled-out numbers whose transcription has been computed, over the ranges of
+ * values: the numbers holding their transcription as tokens, against the numbers along with their transcription as
+ * text.
+ *
+ * The footprint is measured as the growth of the used heap, after garbage collection, when the numbers are created
+ * and retained; it is approximate, and more so for small counts of numbers.
+ *
+ * Usage: {@code java -cp target/benchmarks.jar io.github.moonstroke.spelledoutnumbers.benchmark.FootprintReport
+ * [count]}
+ *
+ * @author Moonstroke
+ */
+public final class FootprintReport {
+	private static final int DEFAULT_COUNT = 100_000;
+
+	private static final int MAX_COLLECTIONS_COUNT = 10;
+
+	private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+	/* The objects measured, kept reachable until the measure is taken */
+	private static Object[] retained;
+
+
+	private FootprintReport() {}
+
+	public static void main(String[] args) {
+		int count = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_COUNT;
+		System.out.printf("%-16s %14s %14s%n", "range", "tokens (B)", "text (B)");
+		for (Inputs.Range range : Inputs.Range.values()) {
+			double[] values = range.generate();
+			System.out.printf("%-16s %14.1f %14.1f%n", range, measureTokens(values, count) / count,
+			                  measureText(values, count) / count);
+		}
+	}
+
+	/* The numbers, transcribed once: they keep the tokens of their transcription */
+	private static double measureTokens(double[] values, int count) {
+		long usedBefore = usedHeap();
+		SpelledOutNumber[] numbers = new SpelledOutNumber[count];
+		for (int i = 0; i < count; ++i) {
+			numbers[i] = new SpelledOutNumber(Locale.US, values[i % values.length]);
+			numbers[i].toString();
+		}
+		return measure(usedBefore, (Object) numbers);
+	}
+
+	/* The numbers, not transcribed, along with their transcription: the representation before the tokens */
+	private static double measureText(double[] values, int count) {
+		long usedBefore = usedHeap();
+		SpelledOutNumber[] numbers = new SpelledOutNumber[count];
+		String[] transcriptions = new String[count];
+		for (int i = 0; i < count; ++i) {
+			numbers[i] = new SpelledOutNumber(Locale.US, values[i % values.length]);
+			transcriptions[i] = new SpelledOutNumber(Locale.US, values[i % values.length]).toString();
+		}
+		return measure(usedBefore, numbers, transcriptions);
+	}
+
+	/* Return the growth of the used heap since the given measure, with the given objects reachable */
+	private static double measure(long usedBefore, Object... objects) {
+		retained = objects;
+		long usedAfter = usedHeap();
+		retained = null;
+		return usedAfter - usedBefore;
+	}
+
+	/* Collect the garbage until the used heap stops shrinking, and return it */
+	private static long usedHeap() {
+		long used = Long.MAX_VALUE;
+		for (int i = 0; i < MAX_COLLECTIONS_COUNT; ++i) {
+			System.gc();
+			long previousUsed = used;
+			used = MEMORY.getHeapMemoryUsage().getUsed();
+			if (used >= previousUsed) {
+				break;
+			}
+		}
+		return used;
+	}
+}
@@ -0,0 +1,98 @@
+package io.github.moonstroke.spelledoutnumbers.benchmark;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.moonstroke.spelledoutnumbers.SpelledOutNumber;
+import io.github.moonstroke.spelledoutnumbers.SpelledOutNumberMap;
+
+/**
+ * Lookups of transcriptions in tables keyed by spelled-out numbers: a hash map keyed by the numbers, a hash map keyed
+ * by the former hash of the numbers (the hash of the locale and of the value combined by a bitwise and), and the map
+ * keyed by the unboxed values. The spread of the hashes themselves is checked by the tests of the numbers.
+ *
+ * @author Moonstroke
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HashCollisionBenchmark {
+	@Param({"SMALL_INTEGERS", "LONG_RANGE", "FRACTIONAL"})
+	public Inputs.Range range;
+
+	private final SpelledOutNumber[] numbers = new SpelledOutNumber[Inputs.SIZE];
+	private final FormerHashKey[] formerHashKeys = new FormerHashKey[Inputs.SIZE];
+	private final double[] values = new double[Inputs.SIZE];
+	private final Map<SpelledOutNumber, String> hashMap = new HashMap<>();
+	private final Map<FormerHashKey, String> formerHashMap = new HashMap<>();
+	private final SpelledOutNumberMap spelledOutNumberMap = new SpelledOutNumberMap();
+	private int index = 0;
+
+
+	@Setup
+	public void setUp() {
+		double[] generatedValues = range.generate();
+		for (int i = 0; i < Inputs.SIZE; ++i) {
+			values[i] = generatedValues[i];
+			numbers[i] = new SpelledOutNumber(Locale.US, values[i]);
+			formerHashKeys[i] = new FormerHashKey(numbers[i]);
+			String transcription = numbers[i].toString();
+			hashMap.put(numbers[i], transcription);
+			formerHashMap.put(formerHashKeys[i], transcription);
+			spelledOutNumberMap.put(Locale.US, values[i], transcription);
+		}
+	}
+
+	@Benchmark
+	public String getHashMap() {
+		return hashMap.get(numbers[index++ & Inputs.SIZE - 1]);
+	}
+
+	@Benchmark
+	public String getFormerHashMap() {
+		return formerHashMap.get(formerHashKeys[index++ & Inputs.SIZE - 1]);
+	}
+
+	@Benchmark
+	public String getSpelledOutNumberMap() {
+		return spelledOutNumberMap.get(Locale.US, values[index++ & Inputs.SIZE - 1]);
+	}
+
+
+	/* A number with the former hash function */
+	private static final class FormerHashKey {
+		private final SpelledOutNumber number;
+
+
+		FormerHashKey(SpelledOutNumber number) {
+			this.number = number;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof FormerHashKey && number.equals(((FormerHashKey) o).number);
+		}
+
+		@Override
+		public int hashCode() {
+			return Locale.US.hashCode() * 31 & Double.hashCode(number.doubleValue());
+		}
+	}
+}
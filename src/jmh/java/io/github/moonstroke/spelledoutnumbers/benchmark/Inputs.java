@@ -0,0 +1,80 @@
+package io.github.moonstroke.spelledoutnumbers.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+/**
+ * The input data sets of the benchmarks.
+ *
+ * @author Moonstroke
+ */
+public final class Inputs {
+	/** The count of values in each data set: a power of two, to cycle through them with a mask */
+	static final int SIZE = 1024;
+
+
+	/**
+	 * The ranges of values benchmarked.
+	 */
+	public enum Range {
+		/** Integers under a thousand: a single group */
+		SMALL_INTEGERS(random -> random.nextInt(1000)),
+		/** Integers in the range of a long */
+		LONG_RANGE(random -> random.nextLong(Long.MAX_VALUE)),
+		/** Doubles close to the maximal value, with transcriptions of thousands of characters */
+		HUGE(random -> Double.MAX_VALUE / (1 + random.nextDouble())),
+		/** Values under a thousand, with a decimal part */
+		FRACTIONAL(random -> random.nextInt(1000) + random.nextDouble());
+
+		private final ToDoubleFunction<SplittableRandom> generator;
+
+
+		Range(ToDoubleFunction<SplittableRandom> generator) {
+			this.generator = generator;
+		}
+
+		/**
+		 * Generate a data set of values in this range. The generation is deterministic.
+		 *
+		 * @return An array of {@link #SIZE} values
+		 */
+		double[] generate() {
+			SplittableRandom random = new SplittableRandom(ordinal());
+			double[] values = new double[SIZE];
+			for (int i = 0; i < SIZE; ++i) {
+				values[i] = generator.applyAsDouble(random);
+			}
+			return values;
+		}
+	}
+
+
+	private Inputs() {}
+
+	/**
+	 * Load the invalid transcriptions of the test resources, repeated to fill a data set.
+	 *
+	 * @return An array of {@link #SIZE} invalid transcriptions
+	 */
+	static String[] invalidTranscriptions() {
+		InputStream stream = Inputs.class.getResourceAsStream("/invalid-transcriptions.txt");
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+			List<String> transcriptions = reader.lines().collect(Collectors.toList());
+			String[] inputs = new String[SIZE];
+			for (int i = 0; i < SIZE; ++i) {
+				inputs[i] = transcriptions.get(i % transcriptions.size());
+			}
+			return inputs;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package io.github.moonstroke.spelledoutnumbers.benchmark;
+
+import java.util.Locale;
+import java.util.ServiceLoader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.moonstroke.spelledoutnumbers.NumberSpeller;
+
+/**
+ * Cost of retrieving the number speller for a locale: a scan of the service providers (as done before the registry
+ * was introduced) against a registry lookup.
+ *
+ * @author Moonstroke
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocalizedNumberServiceBenchmark {
+	@Benchmark
+	public NumberSpeller serviceLoaderScan() {
+		for (NumberSpeller speller : ServiceLoader.load(NumberSpeller.class)) {
+			if (speller.getSupportedLocale().equals(Locale.US)) {
+				return speller;
+			}
+		}
+		return null;
+	}
+
+	@Benchmark
+	public NumberSpeller registryLookup() {
+		return NumberSpeller.getNumberSpellerFor(Locale.US);
+	}
+}
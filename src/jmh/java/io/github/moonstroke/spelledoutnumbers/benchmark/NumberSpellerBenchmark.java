@@ -0,0 +1,83 @@
+package io.github.moonstroke.spelledoutnumbers.benchmark;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.moonstroke.spelledoutnumbers.NumberSpeller;
+
+/**
+ * Throughput and latency of the US English number speller, into strings, builders and direct byte buffers, and of
+ * the computation of the lengths of its transcriptions, over the ranges of values.
+ *
+ * @author Moonstroke
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NumberSpellerBenchmark {
+	@Param
+	public Inputs.Range range;
+
+	private NumberSpeller speller;
+	private double[] values;
+	private final StringBuilder transcriber = new StringBuilder();
+	/* Large enough for the longest transcription of a double */
+	private final ByteBuffer buffer = ByteBuffer.allocateDirect(8192);
+	private int index = 0;
+
+
+	@Setup
+	public void setUp() {
+		speller = NumberSpeller.getNumberSpellerFor(Locale.US);
+		values = range.generate();
+	}
+
+	@Benchmark
+	public String spellOut() {
+		return speller.spellOut(values[index++ & Inputs.SIZE - 1]);
+	}
+
+	@Benchmark
+	public StringBuilder spellOutIntoBuilder() {
+		transcriber.setLength(0);
+		speller.spellOut(values[index++ & Inputs.SIZE - 1], transcriber);
+		return transcriber;
+	}
+
+	@Benchmark
+	public ByteBuffer spellOutIntoBuffer() {
+		buffer.clear();
+		speller.spellOut(values[index++ & Inputs.SIZE - 1], buffer);
+		return buffer;
+	}
+
+	/* The transcription encoded in the buffer, as done before spellOut(double, ByteBuffer) */
+	@Benchmark
+	public ByteBuffer spellOutAndEncode() {
+		buffer.clear();
+		buffer.put(speller.spellOut(values[index++ & Inputs.SIZE - 1]).getBytes(StandardCharsets.US_ASCII));
+		return buffer;
+	}
+
+	@Benchmark
+	public int spelledLength() {
+		return speller.spelledLength(values[index++ & Inputs.SIZE - 1]);
+	}
+}
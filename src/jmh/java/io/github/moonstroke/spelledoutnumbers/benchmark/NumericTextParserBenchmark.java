@@ -0,0 +1,111 @@
+package io.github.moonstroke.spelledoutnumbers.benchmark;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.ParsePosition;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.moonstroke.spelledoutnumbers.NumberSpeller;
+import io.github.moonstroke.spelledoutnumbers.NumericTextParser;
+
+/**
+ * Throughput and latency of the US English text parser, over the transcriptions of the ranges of values, and over
+ * invalid transcriptions: the cost of the rejection by exception is compared to the rejection reported by a parse
+ * position, and to the validation without parsing.
+ *
+ * @author Moonstroke
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NumericTextParserBenchmark {
+	/* A range of values, or INVALID for the invalid transcriptions of the tests */
+	@Param({"SMALL_INTEGERS", "LONG_RANGE", "HUGE", "FRACTIONAL", "INVALID"})
+	public String inputs;
+
+	private NumericTextParser parser;
+	private String[] transcriptions;
+	/* The transcriptions encoded in ASCII, in a direct buffer, and the offsets of their ends */
+	private ByteBuffer bytes;
+	private final int[] ends = new int[Inputs.SIZE];
+	private int index = 0;
+	private final ParsePosition position = new ParsePosition(0);
+
+
+	@Setup
+	public void setUp() {
+		parser = NumericTextParser.getTextParserFor(Locale.US);
+		if (inputs.equals("INVALID")) {
+			transcriptions = Inputs.invalidTranscriptions();
+		} else {
+			transcriptions = new String[Inputs.SIZE];
+			NumberSpeller.getNumberSpellerFor(Locale.US).spellOut(Inputs.Range.valueOf(inputs).generate(),
+			                                                      transcriptions);
+		}
+		bytes = ByteBuffer.allocateDirect(Arrays.stream(transcriptions).mapToInt(String::length).sum());
+		for (int i = 0; i < Inputs.SIZE; ++i) {
+			bytes.put(transcriptions[i].getBytes(StandardCharsets.US_ASCII));
+			ends[i] = bytes.position();
+		}
+	}
+
+	@Benchmark
+	public double parse() {
+		try {
+			return parser.parse(transcriptions[index++ & Inputs.SIZE - 1]);
+		} catch (NumberFormatException e) {
+			return Double.NaN;
+		}
+	}
+
+	@Benchmark
+	public double tryParse() {
+		String transcription = transcriptions[index++ & Inputs.SIZE - 1];
+		return parser.tryParse(transcription, 0, transcription.length(), position);
+	}
+
+	@Benchmark
+	public boolean isValid() {
+		return parser.isValid(transcriptions[index++ & Inputs.SIZE - 1]);
+	}
+
+	@Benchmark
+	public double parseBuffer() {
+		int i = index++ & Inputs.SIZE - 1;
+		bytes.limit(ends[i]).position(i == 0 ? 0 : ends[i - 1]);
+		try {
+			return parser.parseUtf8(bytes);
+		} catch (NumberFormatException e) {
+			return Double.NaN;
+		}
+	}
+
+	/* The transcription decoded from the buffer, as done before parseUtf8(ByteBuffer) */
+	@Benchmark
+	public double decodeAndParse() {
+		int i = index++ & Inputs.SIZE - 1;
+		bytes.limit(ends[i]).position(i == 0 ? 0 : ends[i - 1]);
+		try {
+			return parser.parse(StandardCharsets.US_ASCII.decode(bytes).toString());
+		} catch (NumberFormatException e) {
+			return Double.NaN;
+		}
+	}
+}
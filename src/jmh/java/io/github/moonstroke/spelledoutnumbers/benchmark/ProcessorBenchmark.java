@@ -0,0 +1,165 @@
+package io.github.moonstroke.spelledoutnumbers.benchmark;
+
+import java.util.Locale;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.github.moonstroke.spelledoutnumbers.NumberSpeller;
+import io.github.moonstroke.spelledoutnumbers.NumberSpellingProcessor;
+import io.github.moonstroke.spelledoutnumbers.NumericTextParser;
+import io.github.moonstroke.spelledoutnumbers.NumericTextParsingProcessor;
+
+/**
+ * Throughput of the reactive spelling and parsing stages, over the ranges of values, by batch size: a batch of one
+ * is the stage that converts its items one at a time.
+ *
+ * Each operation streams all the inputs through a new stage, from a publisher emitting synchronously to a subscriber
+ * requesting its items by bursts of varying sizes, so that no thread handoff is measured.
+ *
+ * @author Moonstroke
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProcessorBenchmark {
+	@Param({"SMALL_INTEGERS", "LONG_RANGE", "HUGE"})
+	public Inputs.Range range;
+
+	@Param({"1", "16", "256"})
+	public int batchSize;
+
+	private NumberSpeller speller;
+	private NumericTextParser parser;
+	private final Double[] values = new Double[Inputs.SIZE];
+	private final String[] transcriptions = new String[Inputs.SIZE];
+
+
+	@Setup
+	public void setUp() {
+		speller = NumberSpeller.getNumberSpellerFor(Locale.US);
+		parser = NumericTextParser.getTextParserFor(Locale.US);
+		double[] generated = range.generate();
+		for (int i = 0; i < Inputs.SIZE; ++i) {
+			values[i] = generated[i];
+			transcriptions[i] = speller.spellOut(generated[i]);
+		}
+	}
+
+	@Benchmark
+	public void spellOut(Blackhole blackhole) {
+		NumberSpellingProcessor processor = new NumberSpellingProcessor(speller, batchSize);
+		processor.subscribe(new BurstySubscriber<>(blackhole));
+		new ArrayPublisher<>(values).subscribe(processor);
+	}
+
+	@Benchmark
+	public void parse(Blackhole blackhole) {
+		NumericTextParsingProcessor processor = new NumericTextParsingProcessor(parser, (text, e) -> {
+			throw new AssertionError(e);
+		}, batchSize);
+		processor.subscribe(new BurstySubscriber<>(blackhole));
+		new ArrayPublisher<CharSequence>(transcriptions).subscribe(processor);
+	}
+
+
+	/* Emits the elements of an array on the thread that requests them */
+	private static final class ArrayPublisher<T> implements Flow.Publisher<T> {
+		private final T[] items;
+
+
+		ArrayPublisher(T[] items) {
+			this.items = items;
+		}
+
+		@Override
+		public void subscribe(Flow.Subscriber<? super T> subscriber) {
+			subscriber.onSubscribe(new Flow.Subscription() {
+				private int index = 0;
+				private long demand = 0;
+				private boolean emitting = false;
+				private boolean cancelled = false;
+
+				@Override
+				public void request(long n) {
+					demand += n;
+					/* The requests made while emitting are served by the loop below */
+					if (emitting) {
+						return;
+					}
+					emitting = true;
+					for (; demand > 0 && index < items.length && !cancelled; --demand) {
+						subscriber.onNext(items[index++]);
+					}
+					emitting = false;
+					if (index == items.length && !cancelled) {
+						cancelled = true;
+						subscriber.onComplete();
+					}
+				}
+
+				@Override
+				public void cancel() {
+					cancelled = true;
+				}
+			});
+		}
+	}
+
+	/* Requests its items by bursts, the next one once the previous one is delivered */
+	private static final class BurstySubscriber<T> implements Flow.Subscriber<T> {
+		private static final long[] BURST_SIZES = {1, 7, 200, 13, 1000, 3};
+
+		private final Blackhole blackhole;
+		private Flow.Subscription subscription;
+		private long outstanding = 0;
+		private int burstIndex = 0;
+
+
+		BurstySubscriber(Blackhole blackhole) {
+			this.blackhole = blackhole;
+		}
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+			requestBurst();
+		}
+
+		@Override
+		public void onNext(T item) {
+			blackhole.consume(item);
+			if (--outstanding == 0) {
+				requestBurst();
+			}
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			throw new AssertionError(throwable);
+		}
+
+		@Override
+		public void onComplete() {}
+
+		private void requestBurst() {
+			outstanding = BURST_SIZES[burstIndex++ % BURST_SIZES.length];
+			subscription.request(outstanding);
+		}
+	}
+}
@@ -0,0 +1,56 @@
+package io.github.moonstroke.spelledoutnumbers.benchmark;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.github.moonstroke.spelledoutnumbers.NumberSpeller;
+
+/**
+ * Transcription of a range of consecutive integers, counted by the range stream of the speller, against each value
+ * transcribed separately.
+ *
+ * @author Moonstroke
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RangeBenchmark {
+	/* The first value of the range: small, in the billions, and in the quintillions */
+	@Param({"0", "1234567000", "1234567890123456000"})
+	public long from;
+
+	private NumberSpeller speller;
+
+
+	@Setup
+	public void setUp() {
+		speller = NumberSpeller.getNumberSpellerFor(Locale.US);
+	}
+
+	@Benchmark
+	public void spellRange(Blackhole blackhole) {
+		speller.spellRange(from, from + Inputs.SIZE).forEach(blackhole::consume);
+	}
+
+	@Benchmark
+	public void spellOutEach(Blackhole blackhole) {
+		LongStream.range(from, from + Inputs.SIZE).mapToObj(speller::spellOut).forEach(blackhole::consume);
+	}
+}
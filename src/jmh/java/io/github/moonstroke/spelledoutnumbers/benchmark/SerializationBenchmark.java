@@ -0,0 +1,129 @@
+package io.github.moonstroke.spelledoutnumbers.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.moonstroke.spelledoutnumbers.SpelledOutNumber;
+import io.github.moonstroke.spelledoutnumbers.SpelledOutNumberCodec;
+
+/**
+ * Serialization of an array of transcribed spelled-out numbers: through the serialization proxy, through the
+ * serialized form of the fields of the number and its transcription text, and through the binary codec.
+ *
+ * The sizes of the three forms are reported by {@link SerializedSizeReport}.
+ *
+ * @author Moonstroke
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SerializationBenchmark {
+	@Param({"SMALL_INTEGERS", "HUGE", "FRACTIONAL"})
+	public Inputs.Range range;
+
+	private final SpelledOutNumber[] numbers = new SpelledOutNumber[Inputs.SIZE];
+	private final FieldsForm[] fieldsForms = new FieldsForm[Inputs.SIZE];
+	private byte[] serializedNumbers;
+	private byte[] serializedFieldsForms;
+	private ByteBuffer buffer;
+
+
+	@Setup
+	public void setUp() throws IOException {
+		double[] values = range.generate();
+		for (int i = 0; i < Inputs.SIZE; ++i) {
+			numbers[i] = new SpelledOutNumber(Locale.US, values[i]);
+			fieldsForms[i] = new FieldsForm(Locale.US, values[i], numbers[i].toString());
+		}
+		serializedNumbers = serialize(numbers);
+		serializedFieldsForms = serialize(fieldsForms);
+		buffer = ByteBuffer.allocate(Integer.BYTES + 1 + 256 + Inputs.SIZE * (1 + Long.BYTES));
+		SpelledOutNumberCodec.encode(numbers, buffer);
+	}
+
+	@Benchmark
+	public byte[] serializeProxy() throws IOException {
+		return serialize(numbers);
+	}
+
+	@Benchmark
+	public Object deserializeProxy() throws IOException, ClassNotFoundException {
+		return deserialize(serializedNumbers);
+	}
+
+	@Benchmark
+	public byte[] serializeFields() throws IOException {
+		return serialize(fieldsForms);
+	}
+
+	@Benchmark
+	public Object deserializeFields() throws IOException, ClassNotFoundException {
+		return deserialize(serializedFieldsForms);
+	}
+
+	@Benchmark
+	public ByteBuffer encodeCodec() {
+		buffer.clear();
+		SpelledOutNumberCodec.encode(numbers, buffer);
+		return buffer;
+	}
+
+	@Benchmark
+	public SpelledOutNumber[] decodeCodec() {
+		buffer.rewind();
+		return SpelledOutNumberCodec.decodeArray(buffer);
+	}
+
+	static byte[] serialize(Object object) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+			output.writeObject(object);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+		try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+			return input.readObject();
+		}
+	}
+
+
+	/* The default serialized form of a number holding its locale, value and transcription text */
+	static final class FieldsForm implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private final Locale locale;
+		private final double doubleValue;
+		private final String transcription;
+
+
+		FieldsForm(Locale locale, double doubleValue, String transcription) {
+			this.locale = locale;
+			this.doubleValue = doubleValue;
+			this.transcription = transcription;
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package io.github.moonstroke.spelledoutnumbers.benchmark;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+
+import io.github.moonstroke.spelledoutnumbers.SpelledOutNumber;
+import io.github.moonstroke.spelledoutnumbers.SpelledOutNumberCodec;
+
+/**
+ * Report of the sizes of the serialized forms of an array of transcribed spelled-out numbers, over the ranges of
+ * values: the serialization proxy, the serialized form of the fields of the number and its transcription text, and
+ * the binary codec, as compared by {@link SerializationBenchmark}.
+ *
+ * Usage: {@code java -cp target/benchmarks.jar io.github.moonstroke.spelledoutnumbers.benchmark.SerializedSizeReport}
+ *
+ * @author Moonstroke
+ */
+public final class SerializedSizeReport {
+	private SerializedSizeReport() {}
+
+	public static void main(String[] args) throws IOException {
+		System.out.printf("%-16s %12s %12s %12s%n", "range", "proxy (B)", "fields (B)", "codec (B)");
+		for (Inputs.Range range : Inputs.Range.values()) {
+			double[] values = range.generate();
+			SpelledOutNumber[] numbers = new SpelledOutNumber[Inputs.SIZE];
+			SerializationBenchmark.FieldsForm[] fieldsForms = new SerializationBenchmark.FieldsForm[Inputs.SIZE];
+			for (int i = 0; i < Inputs.SIZE; ++i) {
+				numbers[i] = new SpelledOutNumber(Locale.US, values[i]);
+				fieldsForms[i] = new SerializationBenchmark.FieldsForm(Locale.US, values[i], numbers[i].toString());
+			}
+			ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + 1 + 256 + Inputs.SIZE * (1 + Long.BYTES));
+			SpelledOutNumberCodec.encode(numbers, buffer);
+			System.out.printf("%-16s %12d %12d %12d%n", range, SerializationBenchmark.serialize(numbers).length,
+			                  SerializationBenchmark.serialize(fieldsForms).length, buffer.position());
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package io.github.moonstroke.spelledoutnumbers.benchmark;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.moonstroke.spelledoutnumbers.NumberSpeller;
+import io.github.moonstroke.spelledoutnumbers.SpelledOutNumber;
+
+/**
+ * Throughput and latency of the construction of spelled-out numbers, from their values and from their
+ * transcriptions, over the ranges of values. The numbers constructed from their values are transcribed lazily: their
+ * construction is compared to their construction followed by their transcription, to measure the saving when they are
+ * not printed.
+ *
+ * @author Moonstroke
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SpelledOutNumberBenchmark {
+	@Param
+	public Inputs.Range range;
+
+	private double[] values;
+	private String[] transcriptions;
+	private int index = 0;
+
+
+	@Setup
+	public void setUp() {
+		values = range.generate();
+		transcriptions = new String[Inputs.SIZE];
+		NumberSpeller.getNumberSpellerFor(Locale.US).spellOut(values, transcriptions);
+	}
+
+	@Benchmark
+	public SpelledOutNumber fromValue() {
+		return new SpelledOutNumber(Locale.US, values[index++ & Inputs.SIZE - 1]);
+	}
+
+	@Benchmark
+	public String fromValueToString() {
+		return new SpelledOutNumber(Locale.US, values[index++ & Inputs.SIZE - 1]).toString();
+	}
+
+	@Benchmark
+	public SpelledOutNumber fromTranscription() {
+		return new SpelledOutNumber(Locale.US, transcriptions[index++ & Inputs.SIZE - 1]);
+	}
+}
@@ -0,0 +1,76 @@
+package io.github.moonstroke.spelledoutnumbers.benchmark;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.moonstroke.spelledoutnumbers.NumberSpeller;
+import io.github.moonstroke.spelledoutnumbers.SpelledOutNumber;
+
+/**
+ * Throughput of the factory methods of spelled-out numbers under a skewed traffic, where a few values make up most of
+ * the requests, without cache and with caches of several sizes.
+ *
+ * @author Moonstroke
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpelledOutNumberCacheBenchmark {
+	/* The count of frequent values, that make up most of the requests */
+	private static final int FREQUENT_VALUES_COUNT = 64;
+
+	/* The size of the cache, 0 to disable it */
+	@Param({"0", "256", "4096"})
+	public int cacheSize;
+
+	private final double[] values = new double[Inputs.SIZE];
+	private final String[] transcriptions = new String[Inputs.SIZE];
+	private int index = 0;
+
+
+	@Setup
+	public void setUp() {
+		/* Prices: nine requests out of ten are for one of a few values, the others are for any value */
+		SplittableRandom random = new SplittableRandom(0);
+		for (int i = 0; i < Inputs.SIZE; ++i) {
+			int cents = random.nextInt(10) == 0 ? random.nextInt(1_000_000) : random.nextInt(FREQUENT_VALUES_COUNT);
+			values[i] = cents / 100.;
+		}
+		NumberSpeller.getNumberSpellerFor(Locale.US).spellOut(values, transcriptions);
+		if (cacheSize > 0) {
+			SpelledOutNumber.enableCache(cacheSize);
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		SpelledOutNumber.disableCache();
+	}
+
+	@Benchmark
+	public SpelledOutNumber ofValue() {
+		return SpelledOutNumber.of(Locale.US, values[index++ & Inputs.SIZE - 1]);
+	}
+
+	@Benchmark
+	public SpelledOutNumber ofTranscription() {
+		return SpelledOutNumber.of(Locale.US, transcriptions[index++ & Inputs.SIZE - 1]);
+	}
+}
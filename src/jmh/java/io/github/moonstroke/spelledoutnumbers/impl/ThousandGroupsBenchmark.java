@@ -0,0 +1,64 @@
+package io.github.moonstroke.spelledoutnumbers.impl;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of the decomposition of huge doubles in groups of three digits, over the whole range of binary exponents
+ * above the range of a long: the multiplication of precomputed powers of two against the repeated BigInteger
+ * divisions it replaced.
+ *
+ * @author Moonstroke
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ThousandGroupsBenchmark {
+	private static final BigInteger THOUSAND = BigInteger.valueOf(1000);
+
+	@Param({"63", "128", "256", "384", "512", "640", "768", "896", "1023"})
+	public int exponent;
+
+	private double value;
+	private final int[] groups = new int[ThousandGroups.BUFFER_SIZE];
+
+
+	@Setup
+	public void setUp() {
+		/* A significand with all bits set, so that no digit is trivially zero */
+		value = Math.scalb(0x1.fffffffffffffp0, exponent);
+	}
+
+	@Benchmark
+	public int powersOfTwo() {
+		return ThousandGroups.split(value, groups);
+	}
+
+	@Benchmark
+	public int bigIntegerDivisions() {
+		int groupsCount = 0;
+		BigInteger bigValue = new BigDecimal(value).toBigInteger();
+		while (!bigValue.equals(BigInteger.ZERO)) {
+			BigInteger[] quotientAndRemainder = bigValue.divideAndRemainder(THOUSAND);
+			groups[groupsCount++] = quotientAndRemainder[1].intValue();
+			bigValue = quotientAndRemainder[0];
+		}
+		return groupsCount;
+	}
+}
@@ -0,0 +1,95 @@
+package io.github.moonstroke.spelledoutnumbers.impl;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Throughput of the classification of words: the lexicon trie against the list scans it replaced.
+ *
+ * @author Moonstroke
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UsEnglishLexiconBenchmark {
+	/* A sample of words of every kind, and of misspelled words */
+	private static final String[] WORDS = {
+		"one", "seven", "nine", "eleven", "thirteen", "nineteen", "twenty", "forty-two", "ninety-nine",
+		"hundred", "thousand", "million", "quintillion", "decillion", "point", "fourty", "oneteen", "twoty"
+	};
+
+	private static final List<String> DIGITS = List.of(
+			"one", "two", "three", "four", "five", "six", "seven", "eight", "nine");
+	private static final List<String> LOW_NUMBERS = List.of("ten", "eleven", "twelve");
+	private static final List<String> TEEN_PREFIXES = List.of("thir", "four", "fif", "six", "seven", "eigh", "nine");
+	private static final List<String> TY_PREFIXES = List.of(
+			"twen", "thir", "for", "fif", "six", "seven", "eigh", "nine");
+	private static final List<String> ZILLION_PREFIXES = List.of(
+			"m", "b", "tr", "quadr", "quint", "sext", "sept", "oct", "non", "dec");
+
+
+	@Benchmark
+	public void lexiconLookUp(Blackhole blackhole) {
+		for (String word : WORDS) {
+			blackhole.consume(UsEnglishLexicon.lookUp(word, 0, word.length()));
+		}
+	}
+
+	@Benchmark
+	public void listScans(Blackhole blackhole) {
+		for (String word : WORDS) {
+			blackhole.consume(classifyWithLists(word));
+		}
+	}
+
+	/* The classification as done before the lexicon: -1 for words out of the vocabulary */
+	private static int classifyWithLists(String word) {
+		if (word.equals("point") || word.equals("hundred") || word.equals("thousand")) {
+			return 0;
+		}
+		if (word.endsWith("illion")) {
+			return ZILLION_PREFIXES.indexOf(removeSuffix(word, "illion"));
+		}
+		int digit = DIGITS.indexOf(word);
+		if (digit >= 0) {
+			return digit + 1;
+		}
+		digit = LOW_NUMBERS.indexOf(word);
+		if (digit >= 0) {
+			return digit + 10;
+		}
+		if (word.endsWith("teen")) {
+			digit = TEEN_PREFIXES.indexOf(removeSuffix(word, "teen"));
+			return digit < 0 ? -1 : digit + 13;
+		}
+		if (word.endsWith("ty")) {
+			digit = TY_PREFIXES.indexOf(removeSuffix(word, "ty"));
+			return digit < 0 ? -1 : 10 * (digit + 2);
+		}
+		int compositionIndex = word.indexOf("ty-");
+		if (compositionIndex > 0) {
+			int tenDigit = TY_PREFIXES.indexOf(word.substring(0, compositionIndex));
+			int unitDigit = DIGITS.indexOf(word.substring(compositionIndex + "ty-".length()));
+			return tenDigit < 0 || unitDigit < 0 ? -1 : 10 * (tenDigit + 2) + unitDigit + 1;
+		}
+		return -1;
+	}
+
+	private static String removeSuffix(String word, String suffix) {
+		return word.substring(0, word.length() - suffix.length());
+	}
+}
@@ -0,0 +1,130 @@
+package io.github.moonstroke.spelledoutnumbers;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * An asynchronous facade over a number speller and a numeric text parser, running their work on an executor.
+ *
+ * The requests are coalesced: a request for a value, or a text, that is already being processed does not start a new
+ * computation, but shares the result of the one in progress. Each caller gets its own future, that it can complete or
+ * cancel without affecting the others; cancelling it does not interrupt the computation. The results are not kept
+ * once the computation completes: they are not a cache.
+ *
+ * The executor can be any one; on the JDK versions that support them, an executor starting a virtual thread per task
+ * lets the callers block on their futures without tying up platform threads.
+ *
+ * @author Moonstroke
+ */
+public final class AsyncNumberService {
+	private final NumberSpeller speller;
+	private final NumericTextParser parser;
+	private final Executor executor;
+
+	/* The computations in progress, by the bits of their value and by their text */
+	private final ConcurrentMap<Long, CompletableFuture<String>> spellings = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, CompletableFuture<Double>> parsings = new ConcurrentHashMap<>();
+
+
+	/**
+	 * Construct a facade running its work in the {@linkplain ForkJoinPool#commonPool() common pool}.
+	 *
+	 * @param speller The speller to transcribe the values with
+	 * @param parser  The parser to read the texts with
+	 *
+	 * @throws NullPointerException if speller or parser is null
+	 */
+	public AsyncNumberService(NumberSpeller speller, NumericTextParser parser) {
+		this(speller, parser, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Construct a facade running its work with the given executor.
+	 *
+	 * @param speller  The speller to transcribe the values with
+	 * @param parser   The parser to read the texts with
+	 * @param executor The executor to run the work with
+	 *
+	 * @throws NullPointerException if speller, parser or executor is null
+	 */
+	public AsyncNumberService(NumberSpeller speller, NumericTextParser parser, Executor executor) {
+		this.speller = Objects.requireNonNull(speller);
+		this.parser = Objects.requireNonNull(parser);
+		this.executor = Objects.requireNonNull(executor);
+	}
+
+	/**
+	 * Transcribe the given real numeric value asynchronously.
+	 *
+	 * The values are identified by their bits, as in {@link SpelledOutNumber#equals}: all the NaN values share their
+	 * computation, but {@code 0.} and {@code -0.} do not.
+	 *
+	 * @param doubleValue The value to transcribe
+	 *
+	 * @return A future completed with the transcription of the value, or exceptionally with the exception thrown by
+	 *         the executor, such as a {@link RejectedExecutionException}, if it does not accept the work
+	 */
+	public CompletableFuture<String> spellOut(double doubleValue) {
+		return coalesce(spellings, Double.doubleToLongBits(doubleValue), () -> speller.spellOut(doubleValue));
+	}
+
+	/**
+	 * Parse the given text asynchronously.
+	 *
+	 * @param text The text to parse
+	 *
+	 * @return A future completed with the value represented by the text, or exceptionally with a
+	 *         {@link NumberFormatException} if the text does not represent a number, or with the exception thrown by
+	 *         the executor, such as a {@link RejectedExecutionException}, if it does not accept the work
+	 *
+	 * @throws NullPointerException if text is null
+	 */
+	public CompletableFuture<Double> parse(String text) {
+		Objects.requireNonNull(text);
+		return coalesce(parsings, text, () -> parser.parse(text));
+	}
+
+	/* Return a copy of the future of the computation in progress for the key, starting it if there is none */
+	private <K, V> CompletableFuture<V> coalesce(ConcurrentMap<K, CompletableFuture<V>> computations, K key,
+	                                             Supplier<V> computation) {
+		CompletableFuture<V> future = computations.get(key);
+		if (future == null) {
+			CompletableFuture<V> started = new CompletableFuture<>();
+			future = computations.putIfAbsent(key, started);
+			if (future == null) {
+				future = started;
+				start(computations, key, started, computation);
+			}
+		}
+		/* The callers do not share the future itself: none of them can complete it for the others */
+		return future.copy();
+	}
+
+	private <K, V> void start(ConcurrentMap<K, CompletableFuture<V>> computations, K key, CompletableFuture<V> future,
+	                          Supplier<V> computation) {
+		try {
+			executor.execute(() -> {
+				try {
+					V result = computation.get();
+					/* Removed before it is completed: the requests made after its completion start anew */
+					computations.remove(key, future);
+					future.complete(result);
+				} catch (RuntimeException | Error e) {
+					/* The callers are not left waiting, whatever the failure */
+					computations.remove(key, future);
+					future.completeExceptionally(e);
+				}
+			});
+		} catch (RuntimeException | Error e) {
+			/* Rejected, or any other failure of the executor: the requests to come must not share the future */
+			computations.remove(key, future);
+			future.completeExceptionally(e);
+		}
+	}
+}
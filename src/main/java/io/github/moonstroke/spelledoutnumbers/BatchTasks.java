@@ -0,0 +1,170 @@
+package io.github.moonstroke.spelledoutnumbers;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork-join tasks processing arrays of values or transcriptions by slices.
+ *
+ * Each task splits its slice in halves until it is small enough, and then processes it sequentially: the leaves are
+ * the unit of work of the pool workers, and each of them reuses its own scratch buffers over its whole slice.
+ *
+ * @author Moonstroke
+ */
+final class BatchTasks {
+	/* The slices of at most this size are not split further */
+	private static final int MIN_SLICE_SIZE = 256;
+
+
+	private BatchTasks() {}
+
+	/* Check that the output array has as many elements as the input one */
+	static void checkLengths(int inputLength, int outputLength) {
+		if (inputLength != outputLength) {
+			throw new IllegalArgumentException("Input and output lengths differ: " + inputLength + " and "
+			                                   + outputLength);
+		}
+	}
+
+	/* Compute the size below which the slices are not split, so that each worker gets a few of them */
+	private static int sliceSize(int length) {
+		/* The tasks are run in the pool of the calling thread if it is a pool worker, in the common pool otherwise */
+		ForkJoinPool pool = ForkJoinTask.getPool();
+		int parallelism = pool == null ? ForkJoinPool.getCommonPoolParallelism() : pool.getParallelism();
+		return Math.max(MIN_SLICE_SIZE, length / (4 * parallelism));
+	}
+
+	/**
+	 * Transcribe the slice of the given values into the corresponding slice of the given transcriptions.
+	 *
+	 * @param speller        The speller to transcribe the values with
+	 * @param values         The values to transcribe
+	 * @param transcriptions The array to store the transcriptions in
+	 * @param from           The index of the first value of the slice
+	 * @param to             The index following the last value of the slice
+	 */
+	static void spellOut(NumberSpeller speller, double[] values, String[] transcriptions, int from, int to) {
+		/* The scratch buffer of the slice */
+		StringBuilder transcriber = new StringBuilder();
+		for (int i = from; i < to; ++i) {
+			transcriber.setLength(0);
+			speller.spellOut(values[i], transcriber);
+			transcriptions[i] = transcriber.toString();
+		}
+	}
+
+	/**
+	 * Parse the slice of the given texts into the corresponding slice of the given values.
+	 *
+	 * @param parser The parser to read the texts with
+	 * @param texts  The texts to parse
+	 * @param values The array to store the parsed values in; {@link Double#NaN} for the texts that fail to parse
+	 * @param errors The array to store the parsing errors in; {@code null} for the texts that parse successfully
+	 * @param from   The index of the first text of the slice
+	 * @param to     The index following the last text of the slice
+	 *
+	 * @return The count of texts that failed to parse
+	 */
+	static int parse(NumericTextParser parser, CharSequence[] texts, double[] values, NumberFormatException[] errors,
+	                 int from, int to) {
+		int failuresCount = 0;
+		for (int i = from; i < to; ++i) {
+			CharSequence text = texts[i];
+			try {
+				values[i] = parser.parse(text, 0, text.length());
+				errors[i] = null;
+			} catch (NumberFormatException e) {
+				values[i] = Double.NaN;
+				errors[i] = e;
+				++failuresCount;
+			}
+		}
+		return failuresCount;
+	}
+
+
+	/**
+	 * Transcribes an array of values in parallel.
+	 */
+	static final class SpellOutTask extends RecursiveAction {
+		private static final long serialVersionUID = 7425803911236042715L;
+
+		private final NumberSpeller speller;
+		private final double[] values;
+		private final String[] transcriptions;
+		private final int from;
+		private final int to;
+		private final int sliceSize;
+
+
+		SpellOutTask(NumberSpeller speller, double[] values, String[] transcriptions) {
+			this(speller, values, transcriptions, 0, values.length, sliceSize(values.length));
+		}
+
+		private SpellOutTask(NumberSpeller speller, double[] values, String[] transcriptions, int from, int to,
+		                     int sliceSize) {
+			this.speller = speller;
+			this.values = values;
+			this.transcriptions = transcriptions;
+			this.from = from;
+			this.to = to;
+			this.sliceSize = sliceSize;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= sliceSize) {
+				spellOut(speller, values, transcriptions, from, to);
+			} else {
+				int middle = (from + to) >>> 1;
+				invokeAll(new SpellOutTask(speller, values, transcriptions, from, middle, sliceSize),
+				          new SpellOutTask(speller, values, transcriptions, middle, to, sliceSize));
+			}
+		}
+	}
+
+	/**
+	 * Parses an array of texts in parallel, and counts the failures.
+	 */
+	static final class ParseTask extends RecursiveTask<Integer> {
+		private static final long serialVersionUID = -1726094436580342170L;
+
+		private final NumericTextParser parser;
+		private final CharSequence[] texts;
+		private final double[] values;
+		private final NumberFormatException[] errors;
+		private final int from;
+		private final int to;
+		private final int sliceSize;
+
+
+		ParseTask(NumericTextParser parser, CharSequence[] texts, double[] values, NumberFormatException[] errors) {
+			this(parser, texts, values, errors, 0, texts.length, sliceSize(texts.length));
+		}
+
+		private ParseTask(NumericTextParser parser, CharSequence[] texts, double[] values,
+		                  NumberFormatException[] errors, int from, int to, int sliceSize) {
+			this.parser = parser;
+			this.texts = texts;
+			this.values = values;
+			this.errors = errors;
+			this.from = from;
+			this.to = to;
+			this.sliceSize = sliceSize;
+		}
+
+		@Override
+		protected Integer compute() {
+			if (to - from <= sliceSize) {
+				return parse(parser, texts, values, errors, from, to);
+			}
+			int middle = (from + to) >>> 1;
+			ParseTask second = new ParseTask(parser, texts, values, errors, middle, to, sliceSize);
+			second.fork();
+			int failuresCount = new ParseTask(parser, texts, values, errors, from, middle, sliceSize).compute();
+			return failuresCount + second.join();
+		}
+	}
+}
@@ -0,0 +1,284 @@
+package io.github.moonstroke.spelledoutnumbers;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A reactive stage converting the items of its upstream publisher by batches, for a single subscriber.
+ *
+ * The stage prefetches up to a batch of items from upstream, and requests more once three quarters of them are
+ * consumed; it never emits more items than its subscriber requested. The buffered items are converted together, as
+ * many as the demand allows at a time, and emitted in order. The signals are serialized through a drain loop that a
+ * single thread runs at a time: the thread that signals while it is free runs it, the others only mark it to run again.
+ *
+ * The termination of the upstream publisher, normal or not, is signalled once the items buffered are emitted. If a
+ * conversion fails, the upstream subscription is cancelled and the failure signalled downstream at once.
+ *
+ * @param <T> The type of the items received
+ * @param <R> The type of the items emitted
+ *
+ * @author Moonstroke
+ */
+abstract class BatchingProcessor<T, R> implements Flow.Processor<T, R> {
+	/** The count of items converted together, and prefetched from upstream, by default */
+	static final int DEFAULT_BATCH_SIZE = 256;
+
+	/* The count of items converted together and the count of items consumed before requesting more from upstream */
+	private final int batchSize;
+	private final int replenishThreshold;
+
+	private final AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
+	/* Claimed once by the subscriber, then published to the drain loop when it is subscribed */
+	private final AtomicBoolean subscribed = new AtomicBoolean();
+	private volatile Flow.Subscriber<? super R> downstream;
+
+	private final Queue<T> items = new ConcurrentLinkedQueue<>();
+	/* The count of items that the subscriber requested and has not been sent */
+	private final AtomicLong demand = new AtomicLong();
+	/* The count of signals to process by the drain loop: nonzero while it runs */
+	private final AtomicInteger pendingSignals = new AtomicInteger();
+
+	/* Set once, with the failure to signal or null, when no more items are received */
+	private final AtomicBoolean terminated = new AtomicBoolean();
+	private volatile Throwable failure;
+	private volatile boolean done = false;
+	/* The failure to signal at once, without emitting the items buffered */
+	private volatile Throwable abortion;
+	/* Whether the subscriber cancelled its subscription, and whether the upstream subscription is to be cancelled */
+	private volatile boolean cancelled = false;
+	private volatile boolean upstreamCancelled = false;
+
+	/* Only accessed by the drain loop */
+	private boolean prefetched = false;
+	private int consumedCount = 0;
+	private boolean finished = false;
+
+
+	/**
+	 * Construct a stage that converts its items by batches of the given size.
+	 *
+	 * @param batchSize The count of items converted together, and prefetched from upstream
+	 *
+	 * @throws IllegalArgumentException if batchSize is not positive
+	 */
+	BatchingProcessor(int batchSize) {
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException("Invalid batch size: " + batchSize);
+		}
+		this.batchSize = batchSize;
+		replenishThreshold = batchSize - batchSize / 4;
+	}
+
+	/**
+	 * Store the given item at the given index of the next batch.
+	 *
+	 * @param index The index of the item in the batch, less than the batch size
+	 * @param item  The item to convert
+	 */
+	abstract void load(int index, T item);
+
+	/**
+	 * Convert the first items of the batch. The items that convert successfully are moved to the start of the
+	 * batch, in order.
+	 *
+	 * @param count The count of items loaded
+	 *
+	 * @return The count of items converted
+	 */
+	abstract int convert(int count);
+
+	/**
+	 * Return the conversion of the item at the given index of the batch.
+	 *
+	 * @param index The index of the item in the batch, less than the count returned by {@link #convert}
+	 *
+	 * @return The item converted
+	 */
+	abstract R converted(int index);
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super R> subscriber) {
+		Objects.requireNonNull(subscriber);
+		if (!subscribed.compareAndSet(false, true)) {
+			subscriber.onSubscribe(new Flow.Subscription() {
+				@Override
+				public void request(long n) {}
+
+				@Override
+				public void cancel() {}
+			});
+			subscriber.onError(new IllegalStateException("The processor already has a subscriber"));
+			return;
+		}
+		subscriber.onSubscribe(new Subscription());
+		downstream = subscriber;
+		drain();
+	}
+
+	@Override
+	public void onSubscribe(Flow.Subscription subscription) {
+		Objects.requireNonNull(subscription);
+		if (!upstream.compareAndSet(null, subscription)) {
+			/* Only one publisher is followed */
+			subscription.cancel();
+			return;
+		}
+		if (upstreamCancelled) {
+			subscription.cancel();
+		}
+		drain();
+	}
+
+	@Override
+	public void onNext(T item) {
+		items.offer(Objects.requireNonNull(item));
+		drain();
+	}
+
+	@Override
+	public void onError(Throwable throwable) {
+		terminate(Objects.requireNonNull(throwable));
+	}
+
+	@Override
+	public void onComplete() {
+		terminate(null);
+	}
+
+	/* Mark the end of the items, with the failure to signal after them if any */
+	private void terminate(Throwable failure) {
+		if (terminated.compareAndSet(false, true)) {
+			this.failure = failure;
+			done = true;
+			drain();
+		}
+	}
+
+	/* Signal the given failure downstream without waiting for the items buffered, and stop receiving items */
+	private void abort(Throwable failure) {
+		if (abortion == null) {
+			abortion = failure;
+		}
+		cancelUpstream();
+		drain();
+	}
+
+	/* Cancel the upstream subscription, if the publisher has subscribed yet; otherwise it is cancelled on subscribe */
+	private void cancelUpstream() {
+		upstreamCancelled = true;
+		Flow.Subscription subscription = upstream.get();
+		if (subscription != null) {
+			subscription.cancel();
+		}
+	}
+
+	/* Emit as many items as requested, request more from upstream, and signal the termination once the items are all
+	 * emitted; only one thread runs it at a time */
+	private void drain() {
+		if (pendingSignals.getAndIncrement() != 0) {
+			return;
+		}
+		int signalsCount = 1;
+		do {
+			Flow.Subscriber<? super R> subscriber = downstream;
+			Flow.Subscription subscription = upstream.get();
+			if (subscriber != null && !finished) {
+				Throwable aborted = abortion;
+				if (aborted != null) {
+					/* Even if the publisher has not subscribed yet */
+					items.clear();
+					finish(subscriber, aborted);
+				} else if (subscription != null) {
+					if (!prefetched && !upstreamCancelled) {
+						prefetched = true;
+						subscription.request(batchSize);
+					}
+					emit(subscriber, subscription);
+				}
+			}
+			signalsCount = pendingSignals.addAndGet(-signalsCount);
+		} while (signalsCount != 0);
+	}
+
+	private void emit(Flow.Subscriber<? super R> subscriber, Flow.Subscription subscription) {
+		for (;;) {
+			if (cancelled) {
+				items.clear();
+				return;
+			}
+			if (abortion != null) {
+				/* Signalled by the next round of the drain loop */
+				return;
+			}
+			/* Read before the items: if they are all received, they are all in the queue */
+			boolean received = done;
+			long requested = demand.get();
+			int count = 0;
+			for (T item; count < batchSize && count < requested && (item = items.poll()) != null; ++count) {
+				load(count, item);
+			}
+			if (count == 0) {
+				if (received && items.isEmpty()) {
+					finish(subscriber, failure);
+				}
+				return;
+			}
+			int convertedCount;
+			try {
+				convertedCount = convert(count);
+			} catch (RuntimeException e) {
+				abort(e);
+				return;
+			}
+			for (int i = 0; i < convertedCount; ++i) {
+				subscriber.onNext(converted(i));
+			}
+			if (requested != Long.MAX_VALUE) {
+				demand.addAndGet(-convertedCount);
+			}
+			consumedCount += count;
+			if (consumedCount >= replenishThreshold && !received) {
+				subscription.request(consumedCount);
+				consumedCount = 0;
+			}
+		}
+	}
+
+	private void finish(Flow.Subscriber<? super R> subscriber, Throwable failure) {
+		finished = true;
+		if (failure == null) {
+			subscriber.onComplete();
+		} else {
+			subscriber.onError(failure);
+		}
+	}
+
+
+	/* The subscription of the subscriber of the stage */
+	private final class Subscription implements Flow.Subscription {
+		@Override
+		public void request(long n) {
+			if (n <= 0) {
+				abort(new IllegalArgumentException("Invalid count of items requested: " + n));
+				return;
+			}
+			/* The demand is capped to Long.MAX_VALUE, that stands for an unbounded one */
+			demand.getAndAccumulate(n, (requested, added) -> requested + added < 0 ? Long.MAX_VALUE
+			                                                                       : requested + added);
+			drain();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+			cancelUpstream();
+			drain();
+		}
+	}
+}
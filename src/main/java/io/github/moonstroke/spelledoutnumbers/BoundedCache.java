@@ -0,0 +1,119 @@
+package io.github.moonstroke.spelledoutnumbers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A concurrent cache of bounded size, evicting the least recently used entries.
+ *
+ * The entries are spread across independent segments by the hash of their key, each one an LRU map guarded by its own
+ * lock; the recency order, and the bound, are per segment. The values are computed outside of the locks, so a value
+ * can be computed several times when requested concurrently; only one of them is kept.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ *
+ * @author Moonstroke
+ */
+final class BoundedCache<K, V> {
+	/* The maximal count of segments; the actual count is at most a tenth of the size, so that each segment holds a
+	 * meaningful share of the entries */
+	private static final int MAX_SEGMENTS_COUNT = 16;
+
+	private final Segment<K, V>[] segments;
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+
+
+	/**
+	 * Construct an empty cache.
+	 *
+	 * @param maximumSize The maximal count of entries of the cache
+	 *
+	 * @throws IllegalArgumentException if maximumSize is not positive
+	 */
+	@SuppressWarnings("unchecked")
+	BoundedCache(int maximumSize) {
+		if (maximumSize <= 0) {
+			throw new IllegalArgumentException("Invalid cache size: " + maximumSize);
+		}
+		int segmentsCount = Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTS_COUNT, maximumSize / 10)));
+		segments = (Segment<K, V>[]) new Segment<?, ?>[segmentsCount];
+		/* Split the size evenly, the first segments taking the remainder */
+		for (int i = 0; i < segmentsCount; ++i) {
+			segments[i] = new Segment<>(maximumSize / segmentsCount + (i < maximumSize % segmentsCount ? 1 : 0),
+			                            evictionCount);
+		}
+	}
+
+	/**
+	 * Return the value associated to the given key, computing it and caching it if it is absent.
+	 *
+	 * @param key    The key of the value
+	 * @param loader The function computing the value of a key; it must not return null
+	 *
+	 * @return The value associated to the key
+	 */
+	V get(K key, Function<? super K, ? extends V> loader) {
+		Segment<K, V> segment = segmentFor(key);
+		V value;
+		synchronized (segment) {
+			value = segment.get(key);
+		}
+		if (value != null) {
+			hitCount.increment();
+			return value;
+		}
+		missCount.increment();
+		V computedValue = loader.apply(key);
+		synchronized (segment) {
+			/* Keep the value computed concurrently, if any, so that all the callers get the same one */
+			value = segment.putIfAbsent(key, computedValue);
+		}
+		return value == null ? computedValue : value;
+	}
+
+	private Segment<K, V> segmentFor(K key) {
+		int hash = key.hashCode();
+		/* Spread the high bits, as the count of segments is a power of two */
+		hash ^= hash >>> 16;
+		return segments[hash & segments.length - 1];
+	}
+
+	/**
+	 * Return the statistics of the cache since its creation.
+	 *
+	 * @return A snapshot of the counts of hits, misses and evictions
+	 */
+	CacheStatistics statistics() {
+		return new CacheStatistics(hitCount.sum(), missCount.sum(), evictionCount.sum());
+	}
+
+
+	/* A part of the cache, in least recently used order. Its methods must be called with its lock held */
+	private static final class Segment<K, V> extends LinkedHashMap<K, V> {
+		private static final long serialVersionUID = 3214479502315290736L;
+
+		private final int maximumSize;
+		private final transient LongAdder evictionCount;
+
+
+		Segment(int maximumSize, LongAdder evictionCount) {
+			super(16, .75f, true);
+			this.maximumSize = maximumSize;
+			this.evictionCount = evictionCount;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+			if (size() > maximumSize) {
+				evictionCount.increment();
+				return true;
+			}
+			return false;
+		}
+	}
+}
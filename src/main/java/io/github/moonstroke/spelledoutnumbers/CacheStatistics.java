@@ -0,0 +1,75 @@
+package io.github.moonstroke.spelledoutnumbers;
+
+/**
+ * A snapshot of the activity of a cache of spelled-out numbers.
+ *
+ * @see SpelledOutNumber#enableCache(int)
+ *
+ * @author Moonstroke
+ */
+public final class CacheStatistics {
+	private final long hitCount;
+	private final long missCount;
+	private final long evictionCount;
+
+
+	CacheStatistics(long hitCount, long missCount, long evictionCount) {
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.evictionCount = evictionCount;
+	}
+
+	/**
+	 * Return the count of lookups that found their entry in the cache.
+	 *
+	 * @return the count of cache hits
+	 */
+	public long hitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * Return the count of lookups that did not find their entry in the cache, and computed it.
+	 *
+	 * @return the count of cache misses
+	 */
+	public long missCount() {
+		return missCount;
+	}
+
+	/**
+	 * Return the count of entries removed from the cache to keep it within its size.
+	 *
+	 * @return the count of evictions
+	 */
+	public long evictionCount() {
+		return evictionCount;
+	}
+
+	/**
+	 * Return the ratio of the lookups that found their entry in the cache.
+	 *
+	 * @return the hit rate, between 0 and 1; 1 if there was no lookup
+	 */
+	public double hitRate() {
+		long lookupCount = hitCount + missCount;
+		return lookupCount == 0 ? 1 : (double) hitCount / lookupCount;
+	}
+
+	/**
+	 * Combine these statistics with the given ones.
+	 *
+	 * @param other The statistics to add
+	 *
+	 * @return The statistics of both caches together
+	 */
+	CacheStatistics plus(CacheStatistics other) {
+		return new CacheStatistics(hitCount + other.hitCount, missCount + other.missCount,
+		                           evictionCount + other.evictionCount);
+	}
+
+	@Override
+	public String toString() {
+		return "CacheStatistics[hits=" + hitCount + ", misses=" + missCount + ", evictions=" + evictionCount + "]";
+	}
+}
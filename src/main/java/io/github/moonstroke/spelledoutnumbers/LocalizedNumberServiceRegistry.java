@@ -0,0 +1,85 @@
+package io.github.moonstroke.spelledoutnumbers;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ServiceLoader;
+
+/**
+ * A locale-indexed registry of implementations of a localized number service.
+ *
+ * The registry discovers the providers of the service once, when it is built, and maps each locale to the first
+ * discovered provider that supports it. Lookups are then a single map access, and are safe from any thread.
+ *
+ * @param <S> The locale-dependent number service interface
+ *
+ * @author Moonstroke
+ */
+final class LocalizedNumberServiceRegistry<S extends LocalizedNumberService> {
+	/** The registry of number spellers */
+	static final LocalizedNumberServiceRegistry<NumberSpeller> SPELLERS
+			= new LocalizedNumberServiceRegistry<>(NumberSpeller.class);
+	/** The registry of text parsers */
+	static final LocalizedNumberServiceRegistry<NumericTextParser> PARSERS
+			= new LocalizedNumberServiceRegistry<>(NumericTextParser.class);
+
+	private final Class<S> serviceClass;
+	/* Implementations explicitly registered; these take precedence over the discovered ones */
+	private final Map<Locale, S> registeredHandlers = new HashMap<>();
+	/* Immutable snapshot of the handlers, replaced as a whole on every change */
+	private volatile Map<Locale, S> handlers;
+
+
+	private LocalizedNumberServiceRegistry(Class<S> serviceClass) {
+		this.serviceClass = serviceClass;
+		reload();
+	}
+
+	/**
+	 * Retrieve the implementation of the service that supports the specified locale.
+	 *
+	 * @param locale The locale to support
+	 *
+	 * @return The registered implementation for the locale, or else the first discovered one; {@code null} if none
+	 *         matches, or if locale is null.
+	 */
+	S get(Locale locale) {
+		/* The snapshot is immutable, and does not accept null keys even in lookups */
+		return locale == null ? null : handlers.get(locale);
+	}
+
+	/**
+	 * Register the given implementation for its supported locale, replacing any implementation previously registered
+	 * or discovered for that locale.
+	 *
+	 * @param handler The implementation to register
+	 *
+	 * @throws NullPointerException if handler is null, or does not specify a supported locale
+	 */
+	synchronized void register(S handler) {
+		/* Checked before any change, to keep the registry consistent */
+		Locale locale = Objects.requireNonNull(handler.getSupportedLocale(), "No supported locale");
+		registeredHandlers.put(locale, handler);
+		Map<Locale, S> newHandlers = new HashMap<>(handlers);
+		newHandlers.putAll(registeredHandlers);
+		handlers = Map.copyOf(newHandlers);
+	}
+
+	/**
+	 * Discover anew the providers of the service, and rebuild the registry from them. Explicitly registered
+	 * implementations are kept.
+	 */
+	synchronized void reload() {
+		Map<Locale, S> newHandlers = new HashMap<>();
+		for (S serviceImpl : ServiceLoader.load(serviceClass)) {
+			Locale locale = serviceImpl.getSupportedLocale();
+			/* The providers that support no locale cannot be looked up */
+			if (locale != null) {
+				newHandlers.putIfAbsent(locale, serviceImpl);
+			}
+		}
+		newHandlers.putAll(registeredHandlers);
+		handlers = Map.copyOf(newHandlers);
+	}
+}
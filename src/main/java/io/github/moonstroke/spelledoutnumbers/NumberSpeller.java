@@ -1,6 +1,14 @@
 package io.github.moonstroke.spelledoutnumbers;
 
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
 import java.util.Locale;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 /**
  * This interface provides the numeric-to-text translation service.
@@ -17,6 +25,221 @@ public interface NumberSpeller extends LocalizedNumberService {
 	 */
 	String spellOut(double doubleValue);
 
+	/**
+	 * Transcribe the given real numeric value at the end of the given string builder, using this speller's locale.
+	 *
+	 * @param doubleValue The value to transcribe
+	 * @param transcriber The builder to append the transcription to
+	 *
+	 * @throws NullPointerException if transcriber is null
+	 *
+	 * @implSpec The default implementation appends the result of {@link #spellOut(double)}.
+	 */
+	default void spellOut(double doubleValue, StringBuilder transcriber) {
+		transcriber.append(spellOut(doubleValue));
+	}
+
+	/**
+	 * Transcribe the given real numeric value to the given character sink, using this speller's locale.
+	 *
+	 * @param doubleValue The value to transcribe
+	 * @param transcriber The sink to append the transcription to
+	 *
+	 * @throws IOException          if the sink fails to append the transcription
+	 * @throws NullPointerException if transcriber is null
+	 *
+	 * @implSpec The default implementation appends the result of {@link #spellOut(double)}.
+	 */
+	default void spellOut(double doubleValue, Appendable transcriber) throws IOException {
+		transcriber.append(spellOut(doubleValue));
+	}
+
+	/**
+	 * Transcribe the given real numeric value at the position of the given byte buffer, using this speller's locale,
+	 * and advance the position past the transcription.
+	 *
+	 * @param doubleValue The value to transcribe
+	 * @param buffer      The buffer to write the transcription to
+	 *
+	 * @throws BufferOverflowException if the buffer does not have enough room left; its position is then unchanged
+	 * @throws NullPointerException    if buffer is null
+	 * @throws ReadOnlyBufferException if the buffer is read-only
+	 *
+	 * @implSpec The default implementation writes the result of {@link #spellOut(double)}, encoded in UTF-8.
+	 */
+	default void spellOut(double doubleValue, ByteBuffer buffer) {
+		buffer.put(spellOut(doubleValue).getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Transcribe the given integral value, using this speller's locale.
+	 *
+	 * @param longValue The value to transcribe
+	 *
+	 * @return A textual representation of the given number
+	 *
+	 * @implSpec The default implementation transcribes the value converted to a double. The values beyond
+	 *           2<sup>53</sup> in magnitude are not represented exactly as doubles, and may be rounded:
+	 *           implementations are encouraged to override it.
+	 */
+	default String spellOut(long longValue) {
+		return spellOut((double) longValue);
+	}
+
+	/**
+	 * Transcribe the given integral value at the end of the given string builder, using this speller's locale.
+	 *
+	 * @param longValue   The value to transcribe
+	 * @param transcriber The builder to append the transcription to
+	 *
+	 * @throws NullPointerException if transcriber is null
+	 *
+	 * @implSpec The default implementation appends the result of {@link #spellOut(long)}.
+	 */
+	default void spellOut(long longValue, StringBuilder transcriber) {
+		transcriber.append(spellOut(longValue));
+	}
+
+	/**
+	 * Transcribe the given exact decimal value, using this speller's locale.
+	 *
+	 * @param decimalValue The value to transcribe
+	 *
+	 * @return A textual representation of the given number
+	 *
+	 * @throws NullPointerException if decimalValue is null
+	 *
+	 * @implSpec The default implementation transcribes the value converted to a double, which may round it:
+	 *           implementations are encouraged to override it.
+	 */
+	default String spellOut(BigDecimal decimalValue) {
+		return spellOut(decimalValue.doubleValue());
+	}
+
+	/**
+	 * Transcribe the integers of the given range, in increasing order, using this speller's locale.
+	 *
+	 * @param fromInclusive The first value of the range
+	 * @param toExclusive   The value following the last value of the range
+	 *
+	 * @return The ordered stream of the transcriptions of the values of the range; empty if fromInclusive is not
+	 *         less than toExclusive
+	 *
+	 * @implSpec The default implementation transcribes each value of the range with {@link #spellOut(long)}.
+	 *           Implementations are encouraged to override it to reuse the common parts of consecutive
+	 *           transcriptions.
+	 */
+	default Stream<String> spellRange(long fromInclusive, long toExclusive) {
+		return LongStream.range(fromInclusive, toExclusive).mapToObj(this::spellOut);
+	}
+
+	/**
+	 * Return the length of the transcription of the given real numeric value, using this speller's locale.
+	 *
+	 * @param doubleValue The value to transcribe
+	 *
+	 * @return The count of characters of {@code spellOut(doubleValue)}
+	 *
+	 * @implSpec The default implementation transcribes the value and returns the length of the transcription:
+	 *           implementations are encouraged to override it to compute the length without transcribing.
+	 */
+	default int spelledLength(double doubleValue) {
+		return spellOut(doubleValue).length();
+	}
+
+	/**
+	 * Return the length of the transcription of the given integral value, using this speller's locale.
+	 *
+	 * @param longValue The value to transcribe
+	 *
+	 * @return The count of characters of {@code spellOut(longValue)}
+	 *
+	 * @implSpec The default implementation transcribes the value and returns the length of the transcription:
+	 *           implementations are encouraged to override it to compute the length without transcribing.
+	 */
+	default int spelledLength(long longValue) {
+		return spellOut(longValue).length();
+	}
+
+	/**
+	 * Transcribe each of the given real numeric values, using this speller's locale.
+	 *
+	 * @param doubleValues   The values to transcribe
+	 * @param transcriptions The array to store the transcriptions in, at the indices of their values
+	 *
+	 * @throws IllegalArgumentException if the arrays are not of the same length
+	 * @throws NullPointerException     if either array is null
+	 */
+	default void spellOut(double[] doubleValues, String[] transcriptions) {
+		BatchTasks.checkLengths(doubleValues.length, transcriptions.length);
+		BatchTasks.spellOut(this, doubleValues, transcriptions, 0, doubleValues.length);
+	}
+
+	/**
+	 * Transcribe each of the given real numeric values, using this speller's locale, splitting the work across the
+	 * workers of a fork-join pool.
+	 *
+	 * The work is run in the pool of the calling thread if it is a fork-join worker, and in the
+	 * {@linkplain java.util.concurrent.ForkJoinPool#commonPool() common pool} otherwise.
+	 *
+	 * @param doubleValues   The values to transcribe
+	 * @param transcriptions The array to store the transcriptions in, at the indices of their values
+	 *
+	 * @throws IllegalArgumentException if the arrays are not of the same length
+	 * @throws NullPointerException     if either array is null
+	 */
+	default void parallelSpellOut(double[] doubleValues, String[] transcriptions) {
+		BatchTasks.checkLengths(doubleValues.length, transcriptions.length);
+		new BatchTasks.SpellOutTask(this, doubleValues, transcriptions).invoke();
+	}
+
+	/**
+	 * Encode the given transcription as a sequence of tokens, each one standing for a word of this speller's
+	 * vocabulary. The encoding is a compact representation of the transcription, that {@link #decode} restores.
+	 *
+	 * @param transcription The transcription to encode
+	 *
+	 * @return The tokens of the words of the transcription, or {@code null} if it cannot be encoded (e.g. if it
+	 *         contains words out of the vocabulary)
+	 *
+	 * @throws NullPointerException if transcription is null
+	 *
+	 * @implSpec The default implementation returns {@code null}: the speller has no vocabulary of tokens.
+	 */
+	default short[] encode(CharSequence transcription) {
+		return null;
+	}
+
+	/**
+	 * Decode a transcription from its tokens.
+	 *
+	 * @param tokens The tokens of the transcription, as returned by {@link #encode} on this speller
+	 *
+	 * @return The transcription that was encoded, or {@code null} if the tokens cannot be decoded (e.g. if they were
+	 *         encoded by another speller, or if this speller has no vocabulary of tokens); the transcription is then
+	 *         to be computed again from its value
+	 *
+	 * @throws NullPointerException if tokens is null
+	 *
+	 * @implSpec The default implementation returns {@code null}: the speller has no vocabulary of tokens.
+	 */
+	default String decode(short[] tokens) {
+		return null;
+	}
+
+	/**
+	 * Return the identifier of the vocabulary of tokens of this speller. It changes whenever the tokens stand for
+	 * other words: the tokens kept out of the JVM, along with it, are only to be decoded by a speller of the same
+	 * vocabulary identifier.
+	 *
+	 * @return The identifier of the vocabulary of tokens of this speller
+	 *
+	 * @implSpec The default implementation returns {@code 0}: the speller has no vocabulary of tokens.
+	 */
+	default int vocabularyId() {
+		return 0;
+	}
+
 	/**
 	 * Find a number speller supporting the specified locale.
 	 *
@@ -25,6 +248,29 @@ public interface NumberSpeller extends LocalizedNumberService {
 	 * @return a number speller supporting the given locale, or {@code null} if none matched
 	 */
 	static NumberSpeller getNumberSpellerFor(Locale locale) {
-		return LocalizedNumberService.getHandlerFor(locale, NumberSpeller.class);
+		return LocalizedNumberServiceRegistry.SPELLERS.get(locale);
+	}
+
+	/**
+	 * Register a number speller for its supported locale. It takes precedence over any number speller previously
+	 * registered, or discovered as a service provider, for the same locale.
+	 *
+	 * @param speller The number speller to register
+	 *
+	 * @throws NullPointerException if speller is null, or does not specify a supported locale
+	 */
+	static void registerNumberSpeller(NumberSpeller speller) {
+		LocalizedNumberServiceRegistry.SPELLERS.register(speller);
+	}
+
+	/**
+	 * Discover anew the number speller service providers. Number spellers registered through
+	 * {@link #registerNumberSpeller} are kept.
+	 *
+	 * @apiNote The providers are discovered once and for all when the first number speller is requested; this method
+	 *          is only needed when the available providers change afterwards (e.g. when loading a plug-in).
+	 */
+	static void reloadNumberSpellers() {
+		LocalizedNumberServiceRegistry.SPELLERS.reload();
 	}
 }
@@ -0,0 +1,65 @@
+package io.github.moonstroke.spelledoutnumbers;
+
+import java.util.Objects;
+
+/**
+ * A reactive stage transcribing the real numeric values that it receives, with a number speller.
+ *
+ * The values are transcribed by batches, each one into a scratch buffer reused across the batch; the stage requests
+ * the values from its publisher ahead of the demand of its subscriber, one batch at most. It accepts a single
+ * subscriber, and follows a single publisher.
+ *
+ * @author Moonstroke
+ */
+public final class NumberSpellingProcessor extends BatchingProcessor<Double, String> {
+	private final NumberSpeller speller;
+	private final double[] values;
+	private final String[] transcriptions;
+
+
+	/**
+	 * Construct a stage transcribing its values with the given speller, by batches of the default size.
+	 *
+	 * @param speller The speller to transcribe the values with
+	 *
+	 * @throws NullPointerException if speller is null
+	 */
+	public NumberSpellingProcessor(NumberSpeller speller) {
+		this(speller, DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * Construct a stage transcribing its values with the given speller, by batches of the given size.
+	 *
+	 * @param speller   The speller to transcribe the values with
+	 * @param batchSize The count of values transcribed together, and requested ahead from the publisher
+	 *
+	 * @throws IllegalArgumentException if batchSize is not positive
+	 * @throws NullPointerException     if speller is null
+	 */
+	public NumberSpellingProcessor(NumberSpeller speller, int batchSize) {
+		super(batchSize);
+		this.speller = Objects.requireNonNull(speller);
+		values = new double[batchSize];
+		transcriptions = new String[batchSize];
+	}
+
+	@Override
+	void load(int index, Double item) {
+		values[index] = item;
+	}
+
+	@Override
+	int convert(int count) {
+		BatchTasks.spellOut(speller, values, transcriptions, 0, count);
+		return count;
+	}
+
+	@Override
+	String converted(int index) {
+		String transcription = transcriptions[index];
+		/* Do not retain the transcriptions once they are emitted */
+		transcriptions[index] = null;
+		return transcription;
+	}
+}
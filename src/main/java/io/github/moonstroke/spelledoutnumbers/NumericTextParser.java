@@ -1,5 +1,11 @@
 package io.github.moonstroke.spelledoutnumbers;
 
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.text.ParsePosition;
 import java.util.Locale;
 
 /**
@@ -20,6 +26,203 @@ public interface NumericTextParser extends LocalizedNumberService {
 	 */
 	double parse(String text) throws NumberFormatException;
 
+	/**
+	 * Parse the given region of a text into a numeric value, using this parser's locale.
+	 *
+	 * @param text  The text to parse a region of
+	 * @param start The index of the first character of the region
+	 * @param end   The index following the last character of the region
+	 *
+	 * @return The numeric value represented by the given text region
+	 *
+	 * @throws NumberFormatException     if the text region does not represent a number in this locale
+	 * @throws IndexOutOfBoundsException if the region is not within the bounds of the text
+	 * @throws NullPointerException      if text is null
+	 *
+	 * @implSpec The default implementation parses a copy of the region, as a {@link String}. Implementations are
+	 *           encouraged to read the text in place instead.
+	 */
+	default double parse(CharSequence text, int start, int end) throws NumberFormatException {
+		return parse(text.subSequence(start, end).toString());
+	}
+
+	/**
+	 * Parse the UTF-8 text between the position and the limit of the given buffer into a numeric value, using this
+	 * parser's locale, and advance the position of the buffer to its limit. This reads back the transcriptions written
+	 * by {@link NumberSpeller#spellOut(double, ByteBuffer)}.
+	 *
+	 * @param bytes The buffer holding the text to parse
+	 *
+	 * @return The numeric value represented by the given text
+	 *
+	 * @throws NumberFormatException if the bytes are not valid UTF-8, or if the given text does not represent a number
+	 *                               in this locale; the position of the buffer is then unchanged
+	 * @throws NullPointerException  if bytes is null
+	 *
+	 * @implSpec The default implementation decodes the bytes, and parses the text with
+	 *           {@link #parse(CharSequence, int, int)}. Implementations whose vocabulary is ASCII are encouraged to
+	 *           override it to read the bytes without decoding them.
+	 */
+	default double parseUtf8(ByteBuffer bytes) throws NumberFormatException {
+		CharBuffer text;
+		try {
+			text = StandardCharsets.UTF_8.newDecoder().decode(bytes.duplicate());
+		} catch (CharacterCodingException e) {
+			throw new NumberFormatException("Invalid UTF-8 text");
+		}
+		double value = parse(text, 0, text.length());
+		bytes.position(bytes.limit());
+		return value;
+	}
+
+	/**
+	 * Parse the given text into an integral value, using this parser's locale.
+	 *
+	 * @param text The text to parse
+	 *
+	 * @return The integral value represented by the given text
+	 *
+	 * @throws NumberFormatException if the given text does not represent an integer in the range of a long in this
+	 *                               locale
+	 * @throws NullPointerException  if text is null
+	 *
+	 * @implSpec The default implementation parses the text with {@link #parse(CharSequence, int, int)}, and checks
+	 *           that the value is integral and in range. The values beyond 2<sup>53</sup> in magnitude are not
+	 *           represented exactly as doubles, and may be rounded: implementations are encouraged to override it.
+	 */
+	default long parseLong(CharSequence text) throws NumberFormatException {
+		double parsedValue = parse(text, 0, text.length());
+		/* The comparisons also reject NaN */
+		if (!(-0x1p63 <= parsedValue && parsedValue < 0x1p63) || parsedValue != Math.rint(parsedValue)) {
+			throw new NumberFormatException("Not a long: " + text);
+		}
+		return (long) parsedValue;
+	}
+
+	/**
+	 * Parse the given text into an exact decimal value, using this parser's locale.
+	 *
+	 * @param text The text to parse
+	 *
+	 * @return The decimal value represented by the given text
+	 *
+	 * @throws NumberFormatException if the given text does not represent a finite number in this locale
+	 * @throws NullPointerException  if text is null
+	 *
+	 * @implSpec The default implementation parses the text with {@link #parse(CharSequence, int, int)}, and converts
+	 *           the value with {@link BigDecimal#valueOf(double)}: the value is rounded to the closest double first.
+	 *           Implementations are encouraged to override it.
+	 */
+	default BigDecimal parseBigDecimal(CharSequence text) throws NumberFormatException {
+		double parsedValue = parse(text, 0, text.length());
+		if (!Double.isFinite(parsedValue)) {
+			throw new NumberFormatException("Not a finite number: " + text);
+		}
+		return BigDecimal.valueOf(parsedValue);
+	}
+
+	/**
+	 * Parse the given region of a text into a numeric value, using this parser's locale, without throwing on invalid
+	 * input.
+	 *
+	 * On success, the index of the position is set to the end of the region, and its error index to -1. On failure,
+	 * the index is left unchanged, and the error index is set to the index in the text where the error was detected.
+	 *
+	 * @param text     The text to parse a region of
+	 * @param start    The index of the first character of the region
+	 * @param end      The index following the last character of the region
+	 * @param position The position to report the outcome of the parsing in
+	 *
+	 * @return The numeric value represented by the given text region, or {@link Double#NaN} if it does not represent
+	 *         a number in this locale
+	 *
+	 * @throws IndexOutOfBoundsException if the region is not within the bounds of the text
+	 * @throws NullPointerException      if text or position is null
+	 *
+	 * @apiNote This method is meant for high rates of invalid input, where the cost of creating exceptions would
+	 *          prevail. The error index is needed to tell a failure from the valid transcription of {@code NaN}.
+	 *
+	 * @implSpec The default implementation calls {@link #parse(CharSequence, int, int)} and catches its exception;
+	 *           the error index is set to the start of the region. Implementations are encouraged to override it, and
+	 *           to implement the throwing methods over it instead.
+	 */
+	default double tryParse(CharSequence text, int start, int end, ParsePosition position) {
+		position.setErrorIndex(-1);
+		try {
+			double parsedValue = parse(text, start, end);
+			position.setIndex(end);
+			return parsedValue;
+		} catch (NumberFormatException e) {
+			position.setErrorIndex(start);
+			return Double.NaN;
+		}
+	}
+
+	/**
+	 * Check whether the given text is a valid transcription of a number in this parser's locale, without computing
+	 * its value.
+	 *
+	 * @param text The text to check
+	 *
+	 * @return {@code true} if the text would be parsed successfully
+	 *
+	 * @throws NullPointerException if text is null
+	 *
+	 * @implSpec The default implementation parses the text with {@link #tryParse}. Implementations are encouraged to
+	 *           override it with a check that does not compute the value.
+	 */
+	default boolean isValid(CharSequence text) {
+		ParsePosition position = new ParsePosition(0);
+		tryParse(text, 0, text.length(), position);
+		return position.getErrorIndex() < 0;
+	}
+
+	/**
+	 * Parse each of the given texts into a numeric value, using this parser's locale.
+	 *
+	 * The texts that fail to parse do not interrupt the processing: their value is set to {@link Double#NaN}, and
+	 * their error is reported at the same index in the array of errors.
+	 *
+	 * @param texts  The texts to parse
+	 * @param values The array to store the parsed values in, at the indices of their texts
+	 * @param errors The array to store the parsing errors in, at the indices of their texts; {@code null} is stored
+	 *               for the texts successfully parsed
+	 *
+	 * @return The count of texts that failed to parse
+	 *
+	 * @throws IllegalArgumentException if the arrays are not all of the same length
+	 * @throws NullPointerException     if any array, or any text, is null
+	 */
+	default int parse(CharSequence[] texts, double[] values, NumberFormatException[] errors) {
+		BatchTasks.checkLengths(texts.length, values.length);
+		BatchTasks.checkLengths(texts.length, errors.length);
+		return BatchTasks.parse(this, texts, values, errors, 0, texts.length);
+	}
+
+	/**
+	 * Parse each of the given texts into a numeric value, using this parser's locale, splitting the work across the
+	 * workers of a fork-join pool.
+	 *
+	 * The work is run in the pool of the calling thread if it is a fork-join worker, and in the
+	 * {@linkplain java.util.concurrent.ForkJoinPool#commonPool() common pool} otherwise. The failures are reported as
+	 * in {@link #parse(CharSequence[], double[], NumberFormatException[])}.
+	 *
+	 * @param texts  The texts to parse
+	 * @param values The array to store the parsed values in, at the indices of their texts
+	 * @param errors The array to store the parsing errors in, at the indices of their texts; {@code null} is stored
+	 *               for the texts successfully parsed
+	 *
+	 * @return The count of texts that failed to parse
+	 *
+	 * @throws IllegalArgumentException if the arrays are not all of the same length
+	 * @throws NullPointerException     if any array, or any text, is null
+	 */
+	default int parallelParse(CharSequence[] texts, double[] values, NumberFormatException[] errors) {
+		BatchTasks.checkLengths(texts.length, values.length);
+		BatchTasks.checkLengths(texts.length, errors.length);
+		return new BatchTasks.ParseTask(this, texts, values, errors).invoke();
+	}
+
 	/**
 	 * Find a text parser supporting the specified locale.
 	 *
@@ -28,6 +231,29 @@ public interface NumericTextParser extends LocalizedNumberService {
 	 * @return a text parser supporting the given locale, or {@code null} if none matched
 	 */
 	static NumericTextParser getTextParserFor(Locale locale) {
-		return LocalizedNumberService.getHandlerFor(locale, NumericTextParser.class);
+		return LocalizedNumberServiceRegistry.PARSERS.get(locale);
+	}
+
+	/**
+	 * Register a text parser for its supported locale. It takes precedence over any text parser previously
+	 * registered, or discovered as a service provider, for the same locale.
+	 *
+	 * @param parser The text parser to register
+	 *
+	 * @throws NullPointerException if parser is null, or does not specify a supported locale
+	 */
+	static void registerTextParser(NumericTextParser parser) {
+		LocalizedNumberServiceRegistry.PARSERS.register(parser);
+	}
+
+	/**
+	 * Discover anew the text parser service providers. Text parsers registered through {@link #registerTextParser}
+	 * are kept.
+	 *
+	 * @apiNote The providers are discovered once and for all when the first text parser is requested; this method is
+	 *          only needed when the available providers change afterwards (e.g. when loading a plug-in).
+	 */
+	static void reloadTextParsers() {
+		LocalizedNumberServiceRegistry.PARSERS.reload();
 	}
 }
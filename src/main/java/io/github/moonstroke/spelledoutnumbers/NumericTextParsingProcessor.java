@@ -0,0 +1,87 @@
+package io.github.moonstroke.spelledoutnumbers;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * A reactive stage parsing the texts that it receives, with a numeric text parser.
+ *
+ * The texts are parsed by batches; the stage requests the texts from its publisher ahead of the demand of its
+ * subscriber, one batch at most. The texts that fail to parse do not terminate the stream: they are passed to an
+ * error handler along with their parsing error, and skipped. It accepts a single subscriber, and follows a single
+ * publisher.
+ *
+ * @author Moonstroke
+ */
+public final class NumericTextParsingProcessor extends BatchingProcessor<CharSequence, Double> {
+	private final NumericTextParser parser;
+	private final BiConsumer<? super CharSequence, ? super NumberFormatException> errorHandler;
+	private final CharSequence[] texts;
+	private final double[] values;
+	private final NumberFormatException[] errors;
+
+
+	/**
+	 * Construct a stage parsing its texts with the given parser, by batches of the default size.
+	 *
+	 * @param parser       The parser to read the texts with
+	 * @param errorHandler The handler of the texts that fail to parse, and of their parsing error
+	 *
+	 * @throws NullPointerException if parser or errorHandler is null
+	 */
+	public NumericTextParsingProcessor(NumericTextParser parser,
+	                                   BiConsumer<? super CharSequence, ? super NumberFormatException> errorHandler) {
+		this(parser, errorHandler, DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * Construct a stage parsing its texts with the given parser, by batches of the given size.
+	 *
+	 * The error handler is called from the thread that emits the values, between their emissions; if it throws an
+	 * exception, the stage cancels its subscription and signals the exception to its subscriber.
+	 *
+	 * @param parser       The parser to read the texts with
+	 * @param errorHandler The handler of the texts that fail to parse, and of their parsing error
+	 * @param batchSize    The count of texts parsed together, and requested ahead from the publisher
+	 *
+	 * @throws IllegalArgumentException if batchSize is not positive
+	 * @throws NullPointerException     if parser or errorHandler is null
+	 */
+	public NumericTextParsingProcessor(NumericTextParser parser,
+	                                   BiConsumer<? super CharSequence, ? super NumberFormatException> errorHandler,
+	                                   int batchSize) {
+		super(batchSize);
+		this.parser = Objects.requireNonNull(parser);
+		this.errorHandler = Objects.requireNonNull(errorHandler);
+		texts = new CharSequence[batchSize];
+		values = new double[batchSize];
+		errors = new NumberFormatException[batchSize];
+	}
+
+	@Override
+	void load(int index, CharSequence item) {
+		texts[index] = item;
+	}
+
+	@Override
+	int convert(int count) {
+		BatchTasks.parse(parser, texts, values, errors, 0, count);
+		int parsedCount = 0;
+		for (int i = 0; i < count; ++i) {
+			if (errors[i] != null) {
+				errorHandler.accept(texts[i], errors[i]);
+				errors[i] = null;
+			} else {
+				values[parsedCount++] = values[i];
+			}
+			/* Do not retain the texts once they are parsed */
+			texts[i] = null;
+		}
+		return parsedCount;
+	}
+
+	@Override
+	Double converted(int index) {
+		return values[index];
+	}
+}
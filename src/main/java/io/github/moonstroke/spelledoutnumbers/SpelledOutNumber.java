@@ -1,10 +1,21 @@
 package io.github.moonstroke.spelledoutnumbers;
 
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
 import java.util.Locale;
+import java.util.Objects;
 
 /**
  * A (real) number, with its textual representation in a given locale.
  *
+ * The serialized form of the numbers is a compact proxy, holding the bits of the value, the language tag of the locale
+ * and the transcription if it is known. The streams of the former form, holding the fields of the number, are still
+ * read; the numbers are always written in the proxy form, which the former versions of this class cannot read.
+ *
  * @author Moonstroke
  */
 public class SpelledOutNumber extends Number implements Comparable<SpelledOutNumber> {
@@ -12,11 +23,20 @@ public class SpelledOutNumber extends Number implements Comparable<SpelledOutNum
 
 	private final double doubleValue;
 	private final Locale locale;
-	private final String transcription;
+	/* The speller of the locale, that transcribes the number and decodes its tokens; null if there is none */
+	private final transient NumberSpeller speller;
+	/* The transcription, as its tokens in the vocabulary of the speller, or as text if the speller cannot encode it.
+	 * It is computed on first use for the numbers constructed from their value. The race to compute it is benign, as
+	 * the transcription of a value is always the same; the field is volatile to publish the contents of the arrays */
+	private volatile Object transcription;
+
+	/* The cache of the factory methods, or null if caching is disabled */
+	private static volatile SpelledOutNumberCache cache = null;
 
 
-	private SpelledOutNumber(Locale locale, double doubleValue, String transcription) {
+	private SpelledOutNumber(Locale locale, NumberSpeller speller, double doubleValue, Object transcription) {
 		this.locale = locale;
+		this.speller = speller;
 		this.transcription = transcription;
 		this.doubleValue = doubleValue;
 	}
@@ -26,14 +46,24 @@ public class SpelledOutNumber extends Number implements Comparable<SpelledOutNum
 	 *
 	 * @param locale      The locale in which to transcribe the number
 	 * @param doubleValue The real numeric value
+	 *
+	 * @throws IllegalArgumentException if there is no number speller for the locale
+	 * @throws NullPointerException     if locale is null
+	 *
+	 * @implNote The transcription is only computed when first requested, by {@link #toString()}; the speller of the
+	 *           locale is looked up at once, though.
 	 */
 	public SpelledOutNumber(Locale locale, double doubleValue) {
-		this(locale, doubleValue, spellOut(locale, doubleValue));
+		this(locale, requireSpeller(locale), doubleValue, null);
 	}
 
-	/* Compute the transcription of the given value */
-	private static String spellOut(Locale locale, double doubleValue) {
-		return NumberSpeller.getNumberSpellerFor(locale).spellOut(doubleValue);
+	/* Return the speller of the given locale, failing if there is none */
+	private static NumberSpeller requireSpeller(Locale locale) {
+		NumberSpeller speller = NumberSpeller.getNumberSpellerFor(Objects.requireNonNull(locale));
+		if (speller == null) {
+			throw new IllegalArgumentException("No number speller for locale " + locale);
+		}
+		return speller;
 	}
 
 	/**
@@ -42,15 +72,107 @@ public class SpelledOutNumber extends Number implements Comparable<SpelledOutNum
 	 * @param locale        The local in which the number is transcribed
 	 * @param transcription The textual transcription of the number
 	 *
-	 * @throws NumberFormatException if the transcription does not represent a valid number
+	 * @throws NumberFormatException    if the transcription does not represent a valid number
+	 * @throws IllegalArgumentException if there is no numeric text parser for the locale
+	 * @throws NullPointerException     if locale or transcription is null
+	 *
+	 * @implNote The transcription is not kept as is, but encoded in the vocabulary of the speller of the locale, if
+	 *           it has one.
 	 */
 	public SpelledOutNumber(Locale locale, String transcription) throws NumberFormatException {
-		this(locale, parse(locale, transcription), transcription);
+		this(locale, NumberSpeller.getNumberSpellerFor(locale), parse(locale, transcription), null);
+		this.transcription = compact(transcription);
+	}
+
+	/* Return the tokens of the given transcription, or the transcription itself if the speller cannot encode it */
+	private Object compact(String transcription) {
+		short[] tokens = speller == null ? null : speller.encode(transcription);
+		return tokens == null ? transcription : tokens;
 	}
 
 	/* Compute the numeric value represented by the given text */
 	private static double parse(Locale locale, String transcription) {
-		return NumericTextParser.getTextParserFor(locale).parse(transcription);
+		NumericTextParser parser = NumericTextParser.getTextParserFor(Objects.requireNonNull(locale));
+		if (parser == null) {
+			throw new IllegalArgumentException("No numeric text parser for locale " + locale);
+		}
+		return parser.parse(transcription);
+	}
+
+	/**
+	 * Return a spelled-out number from its numeric value for the specified locale.
+	 *
+	 * If {@linkplain #enableCache(int) caching} is enabled, the number is looked up in the cache, and computed and
+	 * stored there if absent. Otherwise, this is equivalent to the {@linkplain #SpelledOutNumber(Locale, double)
+	 * constructor}.
+	 *
+	 * @param locale      The locale in which to transcribe the number
+	 * @param doubleValue The real numeric value
+	 *
+	 * @return a spelled-out number of the given value, possibly shared
+	 *
+	 * @throws IllegalArgumentException if there is no number speller for the locale
+	 * @throws NullPointerException     if locale is null
+	 */
+	public static SpelledOutNumber of(Locale locale, double doubleValue) {
+		SpelledOutNumberCache currentCache = cache;
+		if (currentCache == null) {
+			return new SpelledOutNumber(locale, doubleValue);
+		}
+		return currentCache.get(locale, doubleValue);
+	}
+
+	/**
+	 * Return a spelled-out number from its transcription in a given locale.
+	 *
+	 * If {@linkplain #enableCache(int) caching} is enabled, the number is looked up in the cache, and parsed and stored
+	 * there if absent. Otherwise, this is equivalent to the {@linkplain #SpelledOutNumber(Locale, String)
+	 * constructor}.
+	 *
+	 * @param locale        The locale in which the number is transcribed
+	 * @param transcription The textual transcription of the number
+	 *
+	 * @return a spelled-out number of the given transcription, possibly shared
+	 *
+	 * @throws NumberFormatException if the transcription does not represent a valid number
+	 */
+	public static SpelledOutNumber of(Locale locale, String transcription) throws NumberFormatException {
+		SpelledOutNumberCache currentCache = cache;
+		if (currentCache == null) {
+			return new SpelledOutNumber(locale, transcription);
+		}
+		return currentCache.get(locale, transcription);
+	}
+
+	/**
+	 * Enable the caching of the numbers returned by the factory methods {@code of}, replacing any previous cache.
+	 *
+	 * The numbers built from their values and the ones built from their transcriptions are cached separately, each
+	 * up to the given count; the least recently used ones are evicted first.
+	 *
+	 * @param maximumSize The maximal count of numbers cached in each direction
+	 *
+	 * @throws IllegalArgumentException if maximumSize is not positive
+	 */
+	public static void enableCache(int maximumSize) {
+		cache = new SpelledOutNumberCache(maximumSize);
+	}
+
+	/**
+	 * Disable the caching of the numbers returned by the factory methods {@code of}, and discard the cache.
+	 */
+	public static void disableCache() {
+		cache = null;
+	}
+
+	/**
+	 * Return the statistics of the current cache of the factory methods, in both directions, since it was enabled.
+	 *
+	 * @return the statistics of the cache, or {@code null} if caching is disabled
+	 */
+	public static CacheStatistics getCacheStatistics() {
+		SpelledOutNumberCache currentCache = cache;
+		return currentCache == null ? null : currentCache.statistics();
 	}
 
 	/**
@@ -108,15 +230,48 @@ public class SpelledOutNumber extends Number implements Comparable<SpelledOutNum
 	 */
 	@Override
 	public int hashCode() {
-		return locale.hashCode() * 31 & Double.hashCode(doubleValue);
+		return hash(locale, Double.doubleToLongBits(doubleValue));
+	}
+
+	/**
+	 * Return the hash of a number of the given locale and value, consistent with {@link #equals}. The bits of the value
+	 * are mixed so that the integral values, whose low bits are all zero, and the values close to one another, which
+	 * only differ in their low bits, are spread over the whole range of hashes.
+	 *
+	 * @param locale The locale of the number
+	 * @param bits   The bits of the value of the number, as given by {@link Double#doubleToLongBits}
+	 *
+	 * @return The hash of the number
+	 */
+	static int hash(Locale locale, long bits) {
+		/* The finalizer of MurmurHash3 */
+		bits = (bits ^ bits >>> 33) * 0xff51afd7ed558ccdL;
+		bits = (bits ^ bits >>> 33) * 0xc4ceb9fe1a85ec53L;
+		bits ^= bits >>> 33;
+		return locale.hashCode() * 31 + Long.hashCode(bits);
 	}
 
 	/**
 	 * Return the textual transcription, in its locale, of this number.
+	 *
+	 * @implNote If the speller of the locale encodes transcriptions in tokens, the transcription is not kept as text,
+	 *           but decoded anew at each call. If the speller cannot decode the tokens, they are dropped and the
+	 *           transcription computed again from the value.
 	 */
 	@Override
 	public String toString() {
-		return transcription;
+		Object currentTranscription = transcription;
+		if (currentTranscription instanceof short[]) {
+			String decodedTranscription = speller.decode((short[]) currentTranscription);
+			if (decodedTranscription != null) {
+				return decodedTranscription;
+			}
+		} else if (currentTranscription != null) {
+			return (String) currentTranscription;
+		}
+		String result = speller.spellOut(doubleValue);
+		transcription = compact(result);
+		return result;
 	}
 
 	/**
@@ -135,9 +290,151 @@ public class SpelledOutNumber extends Number implements Comparable<SpelledOutNum
 	 *
 	 * @param otherLocale The other locale in which to transcribe this number
 	 *
-	 * @return a copy of this number, transcribed in a different locale
+	 * @return a copy of this number, transcribed in a different locale, possibly shared if {@linkplain
+	 *         #enableCache(int) caching} is enabled
+	 *
+	 * @throws IllegalArgumentException if there is no number speller for the other locale
+	 * @throws NullPointerException     if otherLocale is null
+	 *
+	 * @implNote The copy only shares the value of this number: it is transcribed when first requested.
 	 */
 	public SpelledOutNumber toLocale(Locale otherLocale) {
-		return new SpelledOutNumber(otherLocale, doubleValue);
+		return of(otherLocale, doubleValue);
+	}
+
+	/* Return the locale of this number, for the codec */
+	Locale locale() {
+		return locale;
+	}
+
+	/* Serialize a proxy instead */
+	private Object writeReplace() {
+		return new SerializationProxy(this);
+	}
+
+	/* Read the former serialized form, the fields of the number, to resolve it as a new number */
+	private void readObject(ObjectInputStream input) throws IOException, ClassNotFoundException {
+		input.defaultReadObject();
+		/* The transcription was always written as text */
+		if (locale == null || !(transcription == null || transcription instanceof String)) {
+			throw new InvalidObjectException("Invalid number");
+		}
+	}
+
+	private Object readResolve() throws InvalidObjectException {
+		/* The former form never holds tokens */
+		return resolve(locale, doubleValue, transcription, 0);
+	}
+
+	/* Return the deserialized number of the given fields, with the speller of the locale in the reading JVM. The
+	 * tokens of the transcription are dropped if this speller has another vocabulary than the writing one, or cannot
+	 * decode them: the transcription is then computed again from the value */
+	private static SpelledOutNumber resolve(Locale locale, double doubleValue, Object transcription, int vocabularyId)
+			throws InvalidObjectException {
+		NumberSpeller speller = NumberSpeller.getNumberSpellerFor(locale);
+		if (transcription instanceof short[]
+		    && (speller == null || speller.vocabularyId() != vocabularyId
+		        || speller.decode((short[]) transcription) == null)) {
+			transcription = null;
+		}
+		if (speller == null && transcription == null) {
+			/* Nothing to transcribe the number with */
+			throw new InvalidObjectException("No number speller for locale " + locale);
+		}
+		return new SpelledOutNumber(locale, speller, doubleValue, transcription);
+	}
+
+
+	/**
+	 * The serialized form of a spelled-out number: the bits of its value, the language tag of its locale, and its
+	 * transcription if it is known (as tokens of the vocabulary of the speller when possible, preceded by the
+	 * identifier of the vocabulary). The transcriptions of more than 65535 words are not written: they are computed
+	 * again from the value when read, as are the tokens of another vocabulary than that of the reading speller.
+	 */
+	private static final class SerializationProxy implements Externalizable {
+		private static final long serialVersionUID = 6094624474915823162L;
+
+		/* The maximal count of tokens of a transcription, checked before allocating them */
+		private static final int MAX_TOKENS_COUNT = 0xffff;
+
+		/* The kinds of the stored transcription. The tokens written without the identifier of their vocabulary, by a
+		 * former version, are read but dropped */
+		private static final byte NO_TRANSCRIPTION = 0;
+		private static final byte UNIDENTIFIED_TOKENS = 1;
+		private static final byte TEXT = 2;
+		private static final byte TOKENS = 3;
+
+		private double doubleValue;
+		private Locale locale;
+		private Object transcription;
+		/* The identifier of the vocabulary of the tokens of the transcription, if it is stored as such */
+		private int vocabularyId;
+
+
+		/** Required by the Externalizable contract */
+		public SerializationProxy() {}
+
+		SerializationProxy(SpelledOutNumber number) {
+			doubleValue = number.doubleValue;
+			locale = number.locale;
+			transcription = number.transcription;
+			if (transcription instanceof short[]) {
+				/* A number has tokens only if it has a speller */
+				vocabularyId = number.speller.vocabularyId();
+			}
+		}
+
+		@Override
+		public void writeExternal(ObjectOutput output) throws IOException {
+			output.writeLong(Double.doubleToRawLongBits(doubleValue));
+			output.writeUTF(locale.toLanguageTag());
+			if (transcription instanceof short[] && ((short[]) transcription).length <= MAX_TOKENS_COUNT) {
+				short[] tokens = (short[]) transcription;
+				output.writeByte(TOKENS);
+				output.writeInt(vocabularyId);
+				output.writeInt(tokens.length);
+				for (short token : tokens) {
+					output.writeShort(token);
+				}
+			} else if (transcription instanceof String) {
+				output.writeByte(TEXT);
+				output.writeUTF((String) transcription);
+			} else {
+				output.writeByte(NO_TRANSCRIPTION);
+			}
+		}
+
+		@Override
+		public void readExternal(ObjectInput input) throws IOException {
+			doubleValue = Double.longBitsToDouble(input.readLong());
+			locale = Locale.forLanguageTag(input.readUTF());
+			byte kind = input.readByte();
+			if (kind == TOKENS) {
+				vocabularyId = input.readInt();
+				transcription = readTokens(input);
+			} else if (kind == UNIDENTIFIED_TOKENS) {
+				readTokens(input);
+			} else if (kind == TEXT) {
+				transcription = input.readUTF();
+			} else if (kind != NO_TRANSCRIPTION) {
+				throw new InvalidObjectException("Invalid transcription kind: " + kind);
+			}
+		}
+
+		private static short[] readTokens(ObjectInput input) throws IOException {
+			int tokensCount = input.readInt();
+			if (tokensCount < 0 || tokensCount > MAX_TOKENS_COUNT) {
+				throw new InvalidObjectException("Invalid count of tokens: " + tokensCount);
+			}
+			short[] tokens = new short[tokensCount];
+			for (int i = 0; i < tokens.length; ++i) {
+				tokens[i] = input.readShort();
+			}
+			return tokens;
+		}
+
+		private Object readResolve() throws InvalidObjectException {
+			return resolve(locale, doubleValue, transcription, vocabularyId);
+		}
 	}
 }
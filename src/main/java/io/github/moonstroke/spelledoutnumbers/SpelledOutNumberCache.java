@@ -0,0 +1,96 @@
+package io.github.moonstroke.spelledoutnumbers;
+
+import java.util.Locale;
+
+/**
+ * The caches of spelled-out numbers of the factory methods: one for the numbers built from their values, and one for
+ * the numbers built from their transcriptions.
+ *
+ * @author Moonstroke
+ */
+final class SpelledOutNumberCache {
+	private final BoundedCache<ValueKey, SpelledOutNumber> numbersByValue;
+	private final BoundedCache<TranscriptionKey, SpelledOutNumber> numbersByTranscription;
+
+
+	/**
+	 * Construct empty caches.
+	 *
+	 * @param maximumSize The maximal count of entries of each cache
+	 *
+	 * @throws IllegalArgumentException if maximumSize is not positive
+	 */
+	SpelledOutNumberCache(int maximumSize) {
+		numbersByValue = new BoundedCache<>(maximumSize);
+		numbersByTranscription = new BoundedCache<>(maximumSize);
+	}
+
+	SpelledOutNumber get(Locale locale, double doubleValue) {
+		return numbersByValue.get(new ValueKey(locale, doubleValue),
+		                          key -> new SpelledOutNumber(key.locale, key.doubleValue));
+	}
+
+	SpelledOutNumber get(Locale locale, String transcription) throws NumberFormatException {
+		/* The invalid transcriptions are not cached: the exception is thrown to the caller */
+		return numbersByTranscription.get(new TranscriptionKey(locale, transcription),
+		                                  key -> new SpelledOutNumber(key.locale, key.transcription));
+	}
+
+	CacheStatistics statistics() {
+		return numbersByValue.statistics().plus(numbersByTranscription.statistics());
+	}
+
+
+	/* Values are identified by their bits, as in SpelledOutNumber.equals */
+	private static final class ValueKey {
+		final Locale locale;
+		final double doubleValue;
+		private final long bits;
+
+
+		ValueKey(Locale locale, double doubleValue) {
+			this.locale = locale;
+			this.doubleValue = doubleValue;
+			this.bits = Double.doubleToLongBits(doubleValue);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof ValueKey)) {
+				return false;
+			}
+			ValueKey that = (ValueKey) o;
+			return this.bits == that.bits && this.locale.equals(that.locale);
+		}
+
+		@Override
+		public int hashCode() {
+			return SpelledOutNumber.hash(locale, bits);
+		}
+	}
+
+	private static final class TranscriptionKey {
+		final Locale locale;
+		final String transcription;
+
+
+		TranscriptionKey(Locale locale, String transcription) {
+			this.locale = locale;
+			this.transcription = transcription;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof TranscriptionKey)) {
+				return false;
+			}
+			TranscriptionKey that = (TranscriptionKey) o;
+			return this.transcription.equals(that.transcription) && this.locale.equals(that.locale);
+		}
+
+		@Override
+		public int hashCode() {
+			return locale.hashCode() * 31 + transcription.hashCode();
+		}
+	}
+}
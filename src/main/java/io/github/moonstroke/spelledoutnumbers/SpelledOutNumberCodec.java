@@ -0,0 +1,180 @@
+package io.github.moonstroke.spelledoutnumbers;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A compact binary codec of spelled-out numbers, to and from byte buffers.
+ *
+ * A number is encoded as the bits of its value and the language tag of its locale; its transcription is not encoded,
+ * but computed again, on demand, from the decoded value. The numbers decoded are therefore {@linkplain
+ * SpelledOutNumber#equals equal} to the numbers encoded, but a number constructed from a transcription that is not
+ * the one its speller gives for its value is decoded with the latter.
+ *
+ * The format of a number is the 8 bytes of its value, followed by the length of the tag of its locale in one byte and
+ * by the ASCII characters of the tag. The format of an array of numbers is the count of numbers in 4 bytes, the count
+ * of distinct locales in one byte, the tags of the locales each preceded by its length in one byte, and then, for each
+ * number, the index of its locale in one byte followed by the 8 bytes of its value. All the values are big-endian.
+ *
+ * @author Moonstroke
+ */
+public final class SpelledOutNumberCodec {
+	/* The maximal count of distinct locales of an array, counted in an unsigned byte */
+	private static final int MAX_LOCALES_COUNT = 255;
+	/* The maximal length of a language tag, stored in an unsigned byte */
+	private static final int MAX_TAG_LENGTH = 255;
+
+
+	private SpelledOutNumberCodec() {}
+
+	/**
+	 * Return the count of bytes that the encoding of the given number takes.
+	 *
+	 * @param number The number to encode
+	 *
+	 * @return The length of the encoding of the number
+	 *
+	 * @throws NullPointerException if number is null
+	 */
+	public static int encodedLength(SpelledOutNumber number) {
+		return Long.BYTES + 1 + number.locale().toLanguageTag().length();
+	}
+
+	/**
+	 * Encode the given number at the position of the given buffer, and advance it.
+	 *
+	 * @param number The number to encode
+	 * @param buffer The buffer to write the encoding to
+	 *
+	 * @throws BufferOverflowException  if the buffer does not have enough room left
+	 * @throws IllegalArgumentException if the language tag of the locale of the number is over 255 characters long
+	 * @throws NullPointerException     if number or buffer is null
+	 */
+	public static void encode(SpelledOutNumber number, ByteBuffer buffer) {
+		byte[] tag = tag(number.locale());
+		if (buffer.remaining() < Long.BYTES + 1 + tag.length) {
+			throw new BufferOverflowException();
+		}
+		buffer.putLong(Double.doubleToRawLongBits(number.doubleValue()));
+		putTag(tag, buffer);
+	}
+
+	/**
+	 * Decode a number from the position of the given buffer, and advance it.
+	 *
+	 * @param buffer The buffer to read the encoding from
+	 *
+	 * @return The number decoded
+	 *
+	 * @throws BufferUnderflowException if the buffer ends before the encoding
+	 * @throws IllegalArgumentException if there is no number speller for the locale of the number
+	 * @throws NullPointerException     if buffer is null
+	 */
+	public static SpelledOutNumber decode(ByteBuffer buffer) {
+		double doubleValue = Double.longBitsToDouble(buffer.getLong());
+		return new SpelledOutNumber(getLocale(buffer), doubleValue);
+	}
+
+	/**
+	 * Encode the given array of numbers at the position of the given buffer, and advance it. The locales are written
+	 * once for the whole array.
+	 *
+	 * @param numbers The numbers to encode
+	 * @param buffer  The buffer to write the encoding to
+	 *
+	 * @throws BufferOverflowException  if the buffer does not have enough room left; its position is then unspecified
+	 * @throws IllegalArgumentException if the numbers have more than 255 distinct locales, or a language tag over 255
+	 *                                  characters long; nothing is written then
+	 * @throws NullPointerException     if numbers, any of its elements, or buffer is null
+	 */
+	public static void encode(SpelledOutNumber[] numbers, ByteBuffer buffer) {
+		/* The distinct locales, with their index in order of first appearance, and their tags in that order; all
+		 * checked before anything is written */
+		Map<Locale, Integer> localeIndices = new HashMap<>();
+		List<byte[]> tags = new ArrayList<>();
+		byte[] indices = new byte[numbers.length];
+		for (int i = 0; i < numbers.length; ++i) {
+			Locale locale = numbers[i].locale();
+			Integer index = localeIndices.get(locale);
+			if (index == null) {
+				index = tags.size();
+				if (index == MAX_LOCALES_COUNT) {
+					throw new IllegalArgumentException("Too many distinct locales");
+				}
+				tags.add(tag(locale));
+				localeIndices.put(locale, index);
+			}
+			indices[i] = (byte) (int) index;
+		}
+		buffer.putInt(numbers.length);
+		buffer.put((byte) tags.size());
+		for (byte[] tag : tags) {
+			putTag(tag, buffer);
+		}
+		for (int i = 0; i < numbers.length; ++i) {
+			buffer.put(indices[i]);
+			buffer.putLong(Double.doubleToRawLongBits(numbers[i].doubleValue()));
+		}
+	}
+
+	/**
+	 * Decode an array of numbers from the position of the given buffer, and advance it.
+	 *
+	 * @param buffer The buffer to read the encoding from
+	 *
+	 * @return The numbers decoded
+	 *
+	 * @throws BufferUnderflowException if the buffer ends before the encoding
+	 * @throws IllegalArgumentException if the encoding is invalid, or if there is no number speller for the locale of
+	 *                                  a number
+	 * @throws NullPointerException     if buffer is null
+	 */
+	public static SpelledOutNumber[] decodeArray(ByteBuffer buffer) {
+		int numbersCount = buffer.getInt();
+		/* Each number takes at least 9 bytes: check the count before allocating for it */
+		if (numbersCount < 0 || numbersCount > buffer.remaining() / (1 + Long.BYTES)) {
+			throw new IllegalArgumentException("Invalid count of numbers: " + numbersCount);
+		}
+		Locale[] locales = new Locale[Byte.toUnsignedInt(buffer.get())];
+		for (int i = 0; i < locales.length; ++i) {
+			locales[i] = getLocale(buffer);
+		}
+		SpelledOutNumber[] numbers = new SpelledOutNumber[numbersCount];
+		for (int i = 0; i < numbersCount; ++i) {
+			int index = Byte.toUnsignedInt(buffer.get());
+			if (index >= locales.length) {
+				throw new IllegalArgumentException("Invalid locale index: " + index);
+			}
+			numbers[i] = new SpelledOutNumber(locales[index], Double.longBitsToDouble(buffer.getLong()));
+		}
+		return numbers;
+	}
+
+	/* Return the language tag of the locale, as ASCII bytes */
+	private static byte[] tag(Locale locale) {
+		/* Language tags are made of ASCII letters, digits and hyphens */
+		byte[] tag = locale.toLanguageTag().getBytes(StandardCharsets.US_ASCII);
+		if (tag.length > MAX_TAG_LENGTH) {
+			throw new IllegalArgumentException("Language tag too long: " + locale.toLanguageTag());
+		}
+		return tag;
+	}
+
+	private static void putTag(byte[] tag, ByteBuffer buffer) {
+		buffer.put((byte) tag.length);
+		buffer.put(tag);
+	}
+
+	private static Locale getLocale(ByteBuffer buffer) {
+		byte[] tag = new byte[Byte.toUnsignedInt(buffer.get())];
+		buffer.get(tag);
+		return Locale.forLanguageTag(new String(tag, StandardCharsets.US_ASCII));
+	}
+}
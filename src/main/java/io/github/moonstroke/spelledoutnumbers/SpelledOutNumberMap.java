@@ -0,0 +1,241 @@
+package io.github.moonstroke.spelledoutnumbers;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * A map of the transcriptions of numbers, keyed by their locale and value.
+ *
+ * The values are stored unboxed: the map is a table of locales, bits of values and transcriptions in parallel arrays,
+ * with open addressing and linear probing. As in {@link SpelledOutNumber#equals}, the values are compared bitwise, so
+ * that {@code 0.} and {@code -0.} are distinct keys, and all the NaN values are the same key.
+ *
+ * This map is not thread-safe: it must be synchronized externally if it is modified concurrently to being accessed.
+ *
+ * @author Moonstroke
+ */
+public final class SpelledOutNumberMap {
+	private static final int DEFAULT_CAPACITY = 16;
+	/* The maximal capacity of the arrays, a power of two */
+	private static final int MAX_CAPACITY = 1 << 30;
+
+	/* The locales of the keys; null marks an empty slot */
+	private Locale[] locales;
+	/* The bits of the values of the keys, as given by Double.doubleToLongBits */
+	private long[] bits;
+	private String[] transcriptions;
+	private int size = 0;
+	/* The size above which the arrays are grown, for a load factor of 2/3 */
+	private int threshold;
+
+
+	/**
+	 * Construct an empty map.
+	 */
+	public SpelledOutNumberMap() {
+		allocate(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Construct an empty map, sized to hold the given count of entries without growing.
+	 *
+	 * @param expectedSize The expected count of entries
+	 *
+	 * @throws IllegalArgumentException if expectedSize is negative
+	 */
+	public SpelledOutNumberMap(int expectedSize) {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("Invalid expected size: " + expectedSize);
+		}
+		int capacity = DEFAULT_CAPACITY;
+		while (capacity < MAX_CAPACITY && expectedSize > capacity / 3 * 2) {
+			capacity <<= 1;
+		}
+		allocate(capacity);
+	}
+
+	/**
+	 * Return the count of entries of the map.
+	 *
+	 * @return The size of the map
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Return whether the map has no entries.
+	 *
+	 * @return {@code true} if the map is empty
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Return the transcription associated to the given locale and value.
+	 *
+	 * @param locale      The locale of the number
+	 * @param doubleValue The value of the number
+	 *
+	 * @return The transcription of the number, or {@code null} if the map has none
+	 *
+	 * @throws NullPointerException if locale is null
+	 */
+	public String get(Locale locale, double doubleValue) {
+		int slot = find(locale, Double.doubleToLongBits(doubleValue));
+		return slot < 0 ? null : transcriptions[slot];
+	}
+
+	/**
+	 * Return whether the map has a transcription for the given locale and value.
+	 *
+	 * @param locale      The locale of the number
+	 * @param doubleValue The value of the number
+	 *
+	 * @return {@code true} if the map holds a transcription for the number
+	 *
+	 * @throws NullPointerException if locale is null
+	 */
+	public boolean containsKey(Locale locale, double doubleValue) {
+		return find(locale, Double.doubleToLongBits(doubleValue)) >= 0;
+	}
+
+	/**
+	 * Associate the given transcription to the given locale and value.
+	 *
+	 * @param locale        The locale of the number
+	 * @param doubleValue   The value of the number
+	 * @param transcription The transcription of the number
+	 *
+	 * @return The transcription previously associated to the number, or {@code null} if the map had none
+	 *
+	 * @throws IllegalStateException if the map is full
+	 * @throws NullPointerException  if locale or transcription is null
+	 */
+	public String put(Locale locale, double doubleValue, String transcription) {
+		Objects.requireNonNull(transcription);
+		long valueBits = Double.doubleToLongBits(doubleValue);
+		int mask = locales.length - 1;
+		int slot = SpelledOutNumber.hash(locale, valueBits) & mask;
+		while (locales[slot] != null) {
+			if (bits[slot] == valueBits && locales[slot].equals(locale)) {
+				String previousTranscription = transcriptions[slot];
+				transcriptions[slot] = transcription;
+				return previousTranscription;
+			}
+			slot = slot + 1 & mask;
+		}
+		if (size == threshold) {
+			grow();
+			return put(locale, doubleValue, transcription);
+		}
+		locales[slot] = locale;
+		bits[slot] = valueBits;
+		transcriptions[slot] = transcription;
+		++size;
+		return null;
+	}
+
+	/**
+	 * Associate the transcription of the given number to its locale and value.
+	 *
+	 * @param number The number to store
+	 *
+	 * @return The transcription previously associated to the number, or {@code null} if the map had none
+	 *
+	 * @throws IllegalStateException if the map is full
+	 * @throws NullPointerException  if number is null
+	 */
+	public String put(SpelledOutNumber number) {
+		return put(number.locale(), number.doubleValue(), number.toString());
+	}
+
+	/**
+	 * Remove the transcription associated to the given locale and value.
+	 *
+	 * @param locale      The locale of the number
+	 * @param doubleValue The value of the number
+	 *
+	 * @return The transcription removed, or {@code null} if the map had none
+	 *
+	 * @throws NullPointerException if locale is null
+	 */
+	public String remove(Locale locale, double doubleValue) {
+		int slot = find(locale, Double.doubleToLongBits(doubleValue));
+		if (slot < 0) {
+			return null;
+		}
+		String transcription = transcriptions[slot];
+		/* Shift back the following entries of the cluster that would not be found past the emptied slot */
+		int mask = locales.length - 1;
+		int emptySlot = slot;
+		for (int i = slot + 1 & mask; locales[i] != null; i = i + 1 & mask) {
+			int homeSlot = SpelledOutNumber.hash(locales[i], bits[i]) & mask;
+			/* Move the entry if its home slot is not cyclically in (emptySlot, i] */
+			if ((i - homeSlot & mask) >= (i - emptySlot & mask)) {
+				locales[emptySlot] = locales[i];
+				bits[emptySlot] = bits[i];
+				transcriptions[emptySlot] = transcriptions[i];
+				emptySlot = i;
+			}
+		}
+		locales[emptySlot] = null;
+		transcriptions[emptySlot] = null;
+		--size;
+		return transcription;
+	}
+
+	/**
+	 * Remove all the entries of the map.
+	 */
+	public void clear() {
+		Arrays.fill(locales, null);
+		Arrays.fill(transcriptions, null);
+		size = 0;
+	}
+
+	/* Return the slot of the given key, or -1 if it is absent */
+	private int find(Locale locale, long valueBits) {
+		int mask = locales.length - 1;
+		int slot = SpelledOutNumber.hash(locale, valueBits) & mask;
+		while (locales[slot] != null) {
+			if (bits[slot] == valueBits && locales[slot].equals(locale)) {
+				return slot;
+			}
+			slot = slot + 1 & mask;
+		}
+		return -1;
+	}
+
+	private void allocate(int capacity) {
+		locales = new Locale[capacity];
+		bits = new long[capacity];
+		transcriptions = new String[capacity];
+		threshold = capacity / 3 * 2;
+	}
+
+	/* Double the capacity of the arrays and insert the entries anew */
+	private void grow() {
+		if (locales.length == MAX_CAPACITY) {
+			throw new IllegalStateException("Map is full");
+		}
+		Locale[] oldLocales = locales;
+		long[] oldBits = bits;
+		String[] oldTranscriptions = transcriptions;
+		allocate(oldLocales.length << 1);
+		int mask = locales.length - 1;
+		for (int i = 0; i < oldLocales.length; ++i) {
+			if (oldLocales[i] != null) {
+				int slot = SpelledOutNumber.hash(oldLocales[i], oldBits[i]) & mask;
+				while (locales[slot] != null) {
+					slot = slot + 1 & mask;
+				}
+				locales[slot] = oldLocales[i];
+				bits[slot] = oldBits[i];
+				transcriptions[slot] = oldTranscriptions[i];
+			}
+		}
+	}
+}
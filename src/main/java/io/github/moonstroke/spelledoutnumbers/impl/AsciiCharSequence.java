@@ -0,0 +1,63 @@
+package io.github.moonstroke.spelledoutnumbers.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * A read-only view of a region of a byte buffer as a sequence of characters, one per byte.
+ *
+ * The bytes are not decoded: each one is widened to the character of the same code, which is exact for ASCII text.
+ * The bytes beyond ASCII are read as in ISO-8859-1, so that they are never mistaken for ASCII characters. The view
+ * reads the buffer at absolute indices: it does not change its position.
+ *
+ * @author Moonstroke
+ */
+final class AsciiCharSequence implements CharSequence {
+	private final ByteBuffer bytes;
+	private final int start;
+	private final int end;
+
+
+	/**
+	 * Construct a view of a region of a byte buffer.
+	 *
+	 * @param bytes The buffer to view
+	 * @param start The index of the first byte of the region
+	 * @param end   The index past the last byte of the region
+	 *
+	 * @throws IndexOutOfBoundsException if the region is not within the limit of the buffer
+	 */
+	AsciiCharSequence(ByteBuffer bytes, int start, int end) {
+		Objects.checkFromToIndex(start, end, bytes.limit());
+		this.bytes = bytes;
+		this.start = start;
+		this.end = end;
+	}
+
+	@Override
+	public int length() {
+		return end - start;
+	}
+
+	@Override
+	public char charAt(int index) {
+		Objects.checkIndex(index, end - start);
+		return (char) (bytes.get(start + index) & 0xff);
+	}
+
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		Objects.checkFromToIndex(start, end, this.end - this.start);
+		return new AsciiCharSequence(bytes, this.start + start, this.start + end);
+	}
+
+	@Override
+	public String toString() {
+		byte[] region = new byte[end - start];
+		for (int i = 0; i < region.length; ++i) {
+			region[i] = bytes.get(start + i);
+		}
+		return new String(region, StandardCharsets.ISO_8859_1);
+	}
+}
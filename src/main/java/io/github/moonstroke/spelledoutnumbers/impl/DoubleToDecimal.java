@@ -0,0 +1,205 @@
+package io.github.moonstroke.spelledoutnumbers.impl;
+
+import java.math.BigInteger;
+
+/**
+ * Conversion of doubles to the shortest decimal that rounds to them.
+ *
+ * This is an implementation of Raffaello Giulietti's Schubfach algorithm ("The Schubfach way to render doubles",
+ * 2020): the decimal is selected among the (at most two) candidates in the rounding interval of the double, by a
+ * handful of 64-bit multiplications against a table of 126-bit approximations of the powers of ten. It uses no mutable
+ * shared state, and is thus safe to call from any thread.
+ *
+ * @author Moonstroke
+ */
+final class DoubleToDecimal {
+	/** The maximal number of significant digits of a decimal */
+	static final int MAX_DIGITS = 17;
+
+	/* Precision, and width of the exponent field */
+	private static final int P = 53;
+	private static final int W = 11;
+	/* Minimal exponent of the doubles, in the form c 2^q with c an integer */
+	private static final int Q_MIN = -1074;
+	/* Minimal normal significand */
+	private static final long C_MIN = 1L << P - 1;
+	/* Smallest subnormal significand for which the candidates have enough precision */
+	private static final int C_TINY = 3;
+	/* Range of the powers of ten needed */
+	private static final int K_MIN = -324;
+	private static final int K_MAX = 292;
+
+	private static final long T_MASK = (1L << P - 1) - 1;
+	private static final int BQ_MASK = (1 << W) - 1;
+	private static final long MASK_63 = (1L << 63) - 1;
+
+	/* The approximations g of 10^-k for k in [K_MIN, K_MAX], such that 2^125 <= g < 2^126: the upper bits g1 of g are
+	 * at index 2 * (k - K_MIN), the lower 63 bits g0 at the next index */
+	private static final long[] G = new long[2 * (K_MAX - K_MIN + 1)];
+
+	static {
+		for (int k = K_MIN; k <= K_MAX; ++k) {
+			int r = flog2pow10(-k) - 125;
+			BigInteger g;
+			if (k <= 0) {
+				BigInteger power = BigInteger.TEN.pow(-k);
+				g = r >= 0 ? power.shiftRight(r) : power.shiftLeft(-r);
+			} else {
+				g = BigInteger.ONE.shiftLeft(-r).divide(BigInteger.TEN.pow(k));
+			}
+			g = g.add(BigInteger.ONE);
+			G[2 * (k - K_MIN)] = g.shiftRight(63).longValue();
+			G[2 * (k - K_MIN) + 1] = g.longValue() & MASK_63;
+		}
+	}
+
+
+	private DoubleToDecimal() {}
+
+	/**
+	 * Compute the shortest decimal that rounds to the given value.
+	 *
+	 * The decimal is d 10^e, where d is the integer whose digits are written in the given buffer, and e the exponent
+	 * returned (packed with the digits count).
+	 *
+	 * @param doubleValue The value to convert. Prerequisite: finite and strictly positive
+	 * @param digits      The buffer in which to write the significant digits, most significant first. It must have
+	 *                    room for {@link #MAX_DIGITS} digits
+	 *
+	 * @return The digits count and the exponent of the decimal, packed in an int
+	 */
+	static int toDecimal(double doubleValue, byte[] digits) {
+		long bits = Double.doubleToRawLongBits(doubleValue);
+		long t = bits & T_MASK;
+		int bq = (int) (bits >>> P - 1) & BQ_MASK;
+		if (bq != 0) {
+			/* Normal value */
+			int mq = -Q_MIN + 1 - bq;
+			long c = C_MIN | t;
+			if (0 < mq && mq < P) {
+				/* Fast path for integral values */
+				long f = c >> mq;
+				if (f << mq == c) {
+					return toDigits(f, 0, digits);
+				}
+			}
+			return toDecimal(-mq, c, 0, digits);
+		}
+		/* Subnormal value */
+		return t < C_TINY ? toDecimal(Q_MIN, 10 * t, -1, digits) : toDecimal(Q_MIN, t, 0, digits);
+	}
+
+	/**
+	 * Extract the count of significant digits from a packed decimal.
+	 *
+	 * @param decimal The packed decimal, as returned by {@link #toDecimal}
+	 *
+	 * @return The count of digits written in the buffer
+	 */
+	static int digitsCount(int decimal) {
+		return decimal & 0x1f;
+	}
+
+	/**
+	 * Extract the exponent from a packed decimal.
+	 *
+	 * @param decimal The packed decimal, as returned by {@link #toDecimal}
+	 *
+	 * @return The power of ten by which to multiply the digits
+	 */
+	static int exponent(int decimal) {
+		return decimal >> 5;
+	}
+
+	/* The value is c 2^q; dk adjusts the exponent of the result when c was scaled up for precision */
+	private static int toDecimal(int q, long c, int dk, byte[] digits) {
+		int out = (int) c & 0x1;
+		long cb = c << 2;
+		long cbr = cb + 2;
+		long cbl;
+		int k;
+		if (c != C_MIN || q == Q_MIN) {
+			/* Regular spacing: the rounding interval is symmetric */
+			cbl = cb - 2;
+			k = flog10pow2(q);
+		} else {
+			/* Irregular spacing at powers of two: the lower half of the interval is narrower */
+			cbl = cb - 1;
+			k = flog10threeQuartersPow2(q);
+		}
+		int h = q + flog2pow10(-k) + 2;
+
+		long g1 = G[2 * (k - K_MIN)];
+		long g0 = G[2 * (k - K_MIN) + 1];
+
+		/* The value and the bounds of its rounding interval, scaled by 10^-k */
+		long vb = roundToOdd(g1, g0, cb << h);
+		long vbl = roundToOdd(g1, g0, cbl << h);
+		long vbr = roundToOdd(g1, g0, cbr << h);
+
+		long s = vb >> 2;
+		if (s >= 100) {
+			/* Try first a candidate with one digit less: sp10 = 10 floor(s / 10) */
+			long sp10 = 10 * Math.multiplyHigh(s, 115_292_150_460_684_698L << 4);
+			long tp10 = sp10 + 10;
+			boolean upin = vbl + out <= sp10 << 2;
+			boolean wpin = (tp10 << 2) + out <= vbr;
+			if (upin != wpin) {
+				return toDigits(upin ? sp10 : tp10, k, digits);
+			}
+		}
+		long t = s + 1;
+		boolean uin = vbl + out <= s << 2;
+		boolean win = (t << 2) + out <= vbr;
+		if (uin != win) {
+			/* Only one of the candidates is in the rounding interval */
+			return toDigits(uin ? s : t, k + dk, digits);
+		}
+		/* Both are: pick the closest to the value, and the even one on a tie */
+		long cmp = vb - (s + t << 1);
+		return toDigits(cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk, digits);
+	}
+
+	/* Compute the product of g and cp, shifted right by 127 bits and rounded to odd */
+	private static long roundToOdd(long g1, long g0, long cp) {
+		long x1 = Math.multiplyHigh(g0, cp);
+		long y0 = g1 * cp;
+		long y1 = Math.multiplyHigh(g1, cp);
+		long z = (y0 >>> 1) + x1;
+		long vbp = y1 + (z >>> 63);
+		return vbp | (z & MASK_63) + MASK_63 >>> 63;
+	}
+
+	/* Prerequisite: f > 0 */
+	private static int toDigits(long f, int e, byte[] digits) {
+		/* Remove the trailing zeros */
+		while (f % 10 == 0) {
+			f /= 10;
+			++e;
+		}
+		int count = 0;
+		for (long g = f; g > 0; g /= 10) {
+			++count;
+		}
+		for (int i = count - 1; i >= 0; --i) {
+			digits[i] = (byte) (f % 10);
+			f /= 10;
+		}
+		return e << 5 | count;
+	}
+
+	/* floor(log10(2^e)), for |e| <= 5456721 */
+	private static int flog10pow2(int e) {
+		return (int) (e * 661_971_961_083L >> 41);
+	}
+
+	/* floor(log10(3/4 2^e)), for |e| <= 2_015_672 */
+	private static int flog10threeQuartersPow2(int e) {
+		return (int) (e * 661_971_961_083L + -274_743_187_321L >> 41);
+	}
+
+	/* floor(log2(10^e)), for |e| <= 1_838_394 */
+	private static int flog2pow10(int e) {
+		return (int) (e * 913_124_641_741L >> 38);
+	}
+}
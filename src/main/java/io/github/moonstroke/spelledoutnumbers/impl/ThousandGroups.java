@@ -0,0 +1,111 @@
+package io.github.moonstroke.spelledoutnumbers.impl;
+
+import java.util.Arrays;
+
+/**
+ * Decomposition of the integral doubles in groups of three decimal digits.
+ *
+ * An integral double is c 2^q, with c its 53-bit significand. The powers of two are precomputed in base one billion,
+ * so that the decomposition is a single multiplication of the limbs of a power of two by the (shifted) significand:
+ * linear in the count of digits, with no intermediate allocation.
+ *
+ * @author Moonstroke
+ */
+final class ThousandGroups {
+	/**
+	 * The size of the buffers of groups: {@link Double#MAX_VALUE} has 309 digits, that fit in 35 limbs of nine digits,
+	 * i.e. 105 groups (the leading ones being zero)
+	 */
+	static final int BUFFER_SIZE = 105;
+
+	/** The powers of a thousand in the range of a long, indexed by their exponent, i.e. the rank of their group */
+	static final long[] POWERS_OF_THOUSAND = {
+		1L,
+		1_000L,
+		1_000_000L,
+		1_000_000_000L,
+		1_000_000_000_000L,
+		1_000_000_000_000_000L,
+		1_000_000_000_000_000_000L
+	};
+
+	private static final int BILLION = 1_000_000_000;
+	/* The powers of two are tabulated every STRIDE exponents; the remaining bits go in the significand */
+	private static final int STRIDE = 8;
+	/* The exponent of the highest power of two in the range of a double, with a 53-bit integral significand */
+	private static final int MAX_EXPONENT = Double.MAX_EXPONENT - 52;
+	/* The powers of two 2^(STRIDE j), as their base one billion limbs, least significant first */
+	private static final int[][] POWERS_OF_TWO = new int[MAX_EXPONENT / STRIDE + 1][];
+
+	static {
+		int[] power = {1};
+		POWERS_OF_TWO[0] = power;
+		for (int j = 1; j < POWERS_OF_TWO.length; ++j) {
+			/* Multiply the previous power by 2^STRIDE, with one more limb if it overflows */
+			int[] nextPower = new int[power.length + 1];
+			long carry = 0;
+			for (int k = 0; k < power.length; ++k) {
+				long limb = ((long) power[k] << STRIDE) + carry;
+				nextPower[k] = (int) (limb % BILLION);
+				carry = limb / BILLION;
+			}
+			if (carry == 0) {
+				nextPower = Arrays.copyOf(nextPower, power.length);
+			} else {
+				nextPower[power.length] = (int) carry;
+			}
+			POWERS_OF_TWO[j] = nextPower;
+			power = nextPower;
+		}
+	}
+
+
+	private ThousandGroups() {}
+
+	/**
+	 * Split the given integral value in groups of three digits.
+	 *
+	 * @param doubleValue The value to split. Prerequisite: integral, and {@code 2^53 <= doubleValue < +infinity}
+	 * @param groups      The array to store the groups in, least significant first. It must have room for
+	 *                    {@link #BUFFER_SIZE} groups
+	 *
+	 * @return The count of groups stored; the last one is nonzero
+	 */
+	static int split(double doubleValue, int[] groups) {
+		/* Subtract the significand width so that the significand is integral */
+		int exponent = Math.getExponent(doubleValue) - 52;
+		/* Clip mantissa bits and add back implicit leading unit bit */
+		long significand = (Double.doubleToRawLongBits(doubleValue) & 0xfffffffffffffL) | 0x10000000000000L;
+		/* Move the exponent bits below the stride to the significand; it stays under 2^60 */
+		int[] power = POWERS_OF_TWO[exponent / STRIDE];
+		significand <<= exponent % STRIDE;
+		/* Multiply the power by the three base one billion limbs of the significand, one limb of the product at a
+		 * time */
+		long significand0 = significand % BILLION;
+		long significand1 = significand / BILLION % BILLION;
+		long significand2 = significand / BILLION / BILLION;
+		int groupsCount = 0;
+		long carry = 0;
+		for (int k = 0; k < power.length + 2 || carry != 0; ++k) {
+			long limb = carry;
+			if (k < power.length) {
+				limb += significand0 * power[k];
+			}
+			if (0 < k && k <= power.length) {
+				limb += significand1 * power[k - 1];
+			}
+			if (1 < k && k <= power.length + 1) {
+				limb += significand2 * power[k - 2];
+			}
+			carry = limb / BILLION;
+			limb %= BILLION;
+			groups[groupsCount++] = (int) (limb % 1000);
+			groups[groupsCount++] = (int) (limb / 1000 % 1000);
+			groups[groupsCount++] = (int) (limb / 1_000_000);
+		}
+		while (groups[groupsCount - 1] == 0) {
+			--groupsCount;
+		}
+		return groupsCount;
+	}
+}
@@ -0,0 +1,331 @@
+package io.github.moonstroke.spelledoutnumbers.impl;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The vocabulary of numbers transcribed in US English, compiled in a minimal deterministic automaton over the
+ * characters of the words.
+ *
+ * Each word yields both its kind and its numeric value, packed in an int. The entries are not stored in the final
+ * states but spread over the transitions as weights: a word is looked up in a single pass over its characters,
+ * summing the weights of the transitions it takes, and rejected as soon as it leaves the automaton. This lets the
+ * states reached by the same endings be merged, whatever the entries of the words: the names of the thousand ranks,
+ * that share few prefixes but many suffixes, take a few hundred states instead of over ten thousand in a trie.
+ *
+ * @author Moonstroke
+ */
+final class UsEnglishLexicon {
+	/** Returned by {@link #lookUp} for words absent from the vocabulary */
+	static final int NONE = 0;
+
+	/** Kind of the word zero (value 0) */
+	static final int ZERO = 1;
+	/** Kind of the units, one through nine (value 1 to 9) */
+	static final int UNIT = 2;
+	/** Kind of the numbers ten through nineteen (value 10 to 19) */
+	static final int TEEN = 3;
+	/** Kind of the multiples of ten and their compounds, twenty through ninety-nine (value 20 to 99) */
+	static final int TENS = 4;
+	/** Kind of the word hundred (value 100) */
+	static final int HUNDRED = 5;
+	/** Kind of the thousands scale names (value: the power of a thousand, 1 for thousand, 2 for million, etc.) */
+	static final int SCALE = 6;
+	/** Kind of the decimal separator, point (value 0) */
+	static final int POINT = 7;
+	/** Kind of the negative sign, minus (value 0) */
+	static final int MINUS = 8;
+	/** Kind of the word infinity (value 0) */
+	static final int INFINITY = 9;
+	/** Kind of the word not, that starts "not a number" (value 0) */
+	static final int NOT = 10;
+	/** Kind of the word a, in "not a number" (value 0) */
+	static final int A = 11;
+	/** Kind of the word number, that ends "not a number" (value 0) */
+	static final int NUMBER = 12;
+	/** The count of kinds of words, {@link #NONE} included */
+	static final int KINDS_COUNT = 13;
+
+	private static final String[] UNITS = {
+		"one",
+		"two",
+		"three",
+		"four",
+		"five",
+		"six",
+		"seven",
+		"eight",
+		"nine"
+	};
+
+	private static final String[] TEENS = {
+		"ten",
+		"eleven",
+		"twelve",
+		"thirteen",
+		"fourteen",
+		"fifteen",
+		"sixteen",
+		"seventeen",
+		"eighteen",
+		"nineteen"
+	};
+
+	private static final String[] TENS_WORDS = {
+		"twenty",
+		"thirty",
+		"forty",
+		"fifty",
+		"sixty",
+		"seventy",
+		"eighty",
+		"ninety"
+	};
+
+	/* The characters a word can be made of: the lowercase letters, and the hyphen */
+	private static final int ALPHABET_SIZE = 27;
+
+	/* The indices in the alphabet of the ASCII characters, -1 for those out of it */
+	private static final byte[] CHARACTER_INDICES = new byte[128];
+
+	/* The dead state, that all the transitions out of the vocabulary lead to; it is not final, and loops on itself */
+	private static final int DEAD_STATE = 0;
+
+	/* The state before the first character of a word, and the weight to start the sum of a word from */
+	private static final int INITIAL_STATE;
+	private static final int INITIAL_WEIGHT;
+	/* The transitions of the automaton: the target of state s by character c, and the weight added to the entry, are
+	 * at s * ALPHABET_SIZE + index(c). The targets are stored multiplied by ALPHABET_SIZE, ready to be indexed */
+	private static final int[] TARGETS;
+	private static final int[] WEIGHTS;
+	/* Whether a word can end at each state, and the weight to add to its entry if so */
+	private static final boolean[] FINAL;
+	private static final int[] FINAL_WEIGHTS;
+
+	static {
+		Arrays.fill(CHARACTER_INDICES, (byte) -1);
+		for (char c = 'a'; c <= 'z'; ++c) {
+			CHARACTER_INDICES[c] = (byte) (c - 'a');
+		}
+		CHARACTER_INDICES['-'] = 26;
+		Builder builder = new Builder();
+		builder.add("zero", ZERO, 0);
+		for (int i = 0; i < UNITS.length; ++i) {
+			builder.add(UNITS[i], UNIT, i + 1);
+		}
+		for (int i = 0; i < TEENS.length; ++i) {
+			builder.add(TEENS[i], TEEN, i + 10);
+		}
+		for (int i = 0; i < TENS_WORDS.length; ++i) {
+			builder.add(TENS_WORDS[i], TENS, 10 * (i + 2));
+			for (int j = 0; j < UNITS.length; ++j) {
+				builder.add(TENS_WORDS[i] + '-' + UNITS[j], TENS, 10 * (i + 2) + j + 1);
+			}
+		}
+		builder.add("hundred", HUNDRED, 100);
+		/* All the names of the ranks that the speller spells out */
+		StringBuilder rankName = new StringBuilder();
+		for (int i = 0; i < UsEnglishNumberSpeller.THOUSANDS_RANK_NAMES_COUNT; ++i) {
+			rankName.setLength(0);
+			UsEnglishNumberSpeller.spellOutThousandsRankName(i, rankName);
+			builder.add(rankName.toString(), SCALE, i + 1);
+		}
+		builder.add("point", POINT, 0);
+		builder.add("minus", MINUS, 0);
+		builder.add("infinity", INFINITY, 0);
+		builder.add("not", NOT, 0);
+		builder.add("a", A, 0);
+		builder.add("number", NUMBER, 0);
+		builder.compile();
+		INITIAL_STATE = builder.initialState;
+		INITIAL_WEIGHT = builder.initialWeight;
+		TARGETS = builder.targets;
+		WEIGHTS = builder.weights;
+		FINAL = builder.finalStates;
+		FINAL_WEIGHTS = builder.finalWeights;
+	}
+
+
+	private UsEnglishLexicon() {}
+
+	/**
+	 * Look up the word in the given text region.
+	 *
+	 * @param text  The text to read the word from
+	 * @param start The index of the first character of the word
+	 * @param end   The index following the last character of the word
+	 *
+	 * @return The packed kind and value of the word, or {@link #NONE} if it is not in the vocabulary
+	 */
+	static int lookUp(CharSequence text, int start, int end) {
+		int stateOffset = INITIAL_STATE * ALPHABET_SIZE;
+		int entry = INITIAL_WEIGHT;
+		for (int i = start; i < end; ++i) {
+			int index = index(text.charAt(i));
+			if (index < 0) {
+				return NONE;
+			}
+			int transition = stateOffset + index;
+			stateOffset = TARGETS[transition];
+			if (stateOffset == DEAD_STATE) {
+				return NONE;
+			}
+			entry += WEIGHTS[transition];
+		}
+		return finalEntry(stateOffset / ALPHABET_SIZE, entry);
+	}
+
+	/**
+	 * Look up the word starting at the given index of the text, and ending at the next space or at the end of the
+	 * region, reading each of its characters once.
+	 *
+	 * @param text  The text to read the word from
+	 * @param start The index of the first character of the word
+	 * @param end   The index past which the word cannot extend
+	 *
+	 * @return The index following the last character of the word in the high half, and its packed kind and value in
+	 *         the low half; the packed kind and value are {@link #NONE} if the word is not in the vocabulary, and its
+	 *         end is then unspecified
+	 */
+	static long scan(CharSequence text, int start, int end) {
+		int stateOffset = INITIAL_STATE * ALPHABET_SIZE;
+		int entry = INITIAL_WEIGHT;
+		int i = start;
+		for (char c; i < end && (c = text.charAt(i)) != ' '; ++i) {
+			int index = index(c);
+			if (index < 0) {
+				return NONE;
+			}
+			int transition = stateOffset + index;
+			stateOffset = TARGETS[transition];
+			if (stateOffset == DEAD_STATE) {
+				return NONE;
+			}
+			entry += WEIGHTS[transition];
+		}
+		return (long) i << 32 | finalEntry(stateOffset / ALPHABET_SIZE, entry) & 0xffffffffL;
+	}
+
+	/* Return the entry of the word read up to the given state, or NONE if no word ends there */
+	private static int finalEntry(int state, int entry) {
+		return FINAL[state] ? entry + FINAL_WEIGHTS[state] : NONE;
+	}
+
+	/**
+	 * Extract the kind of a word from its packed entry.
+	 *
+	 * @param entry The packed entry of the word, as returned by {@link #lookUp}
+	 *
+	 * @return The kind of the word, or {@link #NONE}
+	 */
+	static int kind(int entry) {
+		return entry >>> 16;
+	}
+
+	/**
+	 * Extract the numeric value of a word from its packed entry.
+	 *
+	 * @param entry The packed entry of the word, as returned by {@link #lookUp}
+	 *
+	 * @return The value of the word
+	 */
+	static int value(int entry) {
+		return entry & 0xffff;
+	}
+
+	/* Return the index of the character in the alphabet, or -1 if it is not part of it */
+	private static int index(char c) {
+		return c < CHARACTER_INDICES.length ? CHARACTER_INDICES[c] : -1;
+	}
+
+
+	/* Grows a trie of the words one at a time, then compiles it into the minimal automaton */
+	private static final class Builder {
+		int[] children = new int[64 * ALPHABET_SIZE];
+		int[] entries = new int[64];
+		int nodesCount = 1;
+
+		int initialState;
+		int initialWeight;
+		int[] targets;
+		int[] weights;
+		boolean[] finalStates;
+		int[] finalWeights;
+
+
+		void add(String word, int kind, int value) {
+			int node = 0;
+			for (int i = 0; i < word.length(); ++i) {
+				int transition = node * ALPHABET_SIZE + index(word.charAt(i));
+				if (children[transition] == 0) {
+					if (nodesCount == entries.length) {
+						entries = Arrays.copyOf(entries, 2 * nodesCount);
+						children = Arrays.copyOf(children, 2 * nodesCount * ALPHABET_SIZE);
+					}
+					children[transition] = nodesCount++;
+				}
+				node = children[transition];
+			}
+			entries[node] = kind << 16 | value;
+		}
+
+		/* Merge the nodes of the trie that lead to the same words, once the weights are pushed towards the root. The
+		 * base of a node is the entry of the first word below it; the weight of a transition is the difference of the
+		 * bases of its ends, and the final weight of a node the difference of its entry and its base. Two nodes are
+		 * then equivalent if they have the same final weight and the same transitions, to equivalent nodes */
+		void compile() {
+			int[] bases = new int[nodesCount];
+			int[] states = new int[nodesCount];
+			/* The first node of each state, from which its transitions are taken */
+			int[] representatives = new int[nodesCount + 1];
+			Map<String, Integer> statesBySignature = new HashMap<>();
+			StringBuilder signature = new StringBuilder();
+			/* The children are created after their parent: going backwards, they are merged before it */
+			for (int node = nodesCount - 1; node >= 0; --node) {
+				int entry = entries[node];
+				bases[node] = entry;
+				for (int index = 0; index < ALPHABET_SIZE && bases[node] == NONE; ++index) {
+					int child = children[node * ALPHABET_SIZE + index];
+					if (child != 0) {
+						bases[node] = bases[child];
+					}
+				}
+				signature.setLength(0);
+				signature.append(entry == NONE ? "-" : Integer.toString(entry - bases[node]));
+				for (int index = 0; index < ALPHABET_SIZE; ++index) {
+					int child = children[node * ALPHABET_SIZE + index];
+					if (child != 0) {
+						signature.append(' ').append(index).append(':').append(states[child]).append(':')
+						         .append(bases[child] - bases[node]);
+					}
+				}
+				/* The states are numbered from one: zero is the dead state */
+				int state = statesBySignature.computeIfAbsent(signature.toString(), s -> statesBySignature.size() + 1);
+				if (representatives[state] == 0) {
+					representatives[state] = node;
+				}
+				states[node] = state;
+			}
+			int statesCount = statesBySignature.size() + 1;
+			targets = new int[statesCount * ALPHABET_SIZE];
+			weights = new int[statesCount * ALPHABET_SIZE];
+			finalStates = new boolean[statesCount];
+			finalWeights = new int[statesCount];
+			for (int state = 1; state < statesCount; ++state) {
+				int node = representatives[state];
+				for (int index = 0; index < ALPHABET_SIZE; ++index) {
+					int child = children[node * ALPHABET_SIZE + index];
+					if (child != 0) {
+						targets[state * ALPHABET_SIZE + index] = states[child] * ALPHABET_SIZE;
+						weights[state * ALPHABET_SIZE + index] = bases[child] - bases[node];
+					}
+				}
+				finalStates[state] = entries[node] != NONE;
+				finalWeights[state] = entries[node] - bases[node];
+			}
+			initialState = states[0];
+			initialWeight = bases[0];
+		}
+	}
+}
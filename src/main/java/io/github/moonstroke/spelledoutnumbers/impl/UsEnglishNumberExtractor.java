@@ -0,0 +1,264 @@
+package io.github.moonstroke.spelledoutnumbers.impl;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.text.ParsePosition;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Extractor of the numbers transcribed in {@link Locale#US US English} within a larger text.
+ *
+ * The text is scanned once, as a stream: the runs of consecutive number words (separated by single spaces) are
+ * collected, and each run is split in the longest transcriptions that the {@link UsEnglishNumericTextParser parser}
+ * accepts. The memory used is bounded, whatever the length of the text: the runs too long to be processed are
+ * discarded entirely.
+ *
+ * The words are the longest sequences of letters, digits, apostrophes and hyphens: a number word is only recognized
+ * if it is a whole word, never within another one.
+ *
+ * @implSpec Only finite numbers are extracted; the special values (not a number, infinity) are not recognized.
+ *           As the parser, the extractor only recognizes all-lowercase text.
+ *
+ * @author Moonstroke
+ */
+public class UsEnglishNumberExtractor {
+	/**
+	 * Receiver of the numbers found by the extractor.
+	 */
+	@FunctionalInterface
+	public interface MatchHandler {
+		/**
+		 * Handle a number found in the text.
+		 *
+		 * @param offset The offset in the text of the first character of the transcription
+		 * @param length The count of characters of the transcription
+		 * @param value  The value of the number
+		 */
+		void onMatch(long offset, int length, double value);
+	}
+
+
+	/* The maximal length of a run of number words; longer runs are discarded, none of their parts is emitted. The
+	 * transcription of Double.MAX_VALUE is a little over 4000 characters long */
+	private static final int MAX_RUN_LENGTH = 8192;
+	private static final int BUFFER_SIZE = 8192;
+
+	private final UsEnglishNumericTextParser parser = new UsEnglishNumericTextParser();
+
+
+	/**
+	 * Extract the numbers from the characters read from the given reader, until the end of the stream.
+	 *
+	 * @param reader  The source of the text
+	 * @param handler The receiver of the numbers found
+	 *
+	 * @throws IOException if an I/O error occurs reading from the reader
+	 *
+	 * @implNote The offsets of the matches are in characters.
+	 */
+	public void extract(Reader reader, MatchHandler handler) throws IOException {
+		Scanner scanner = new Scanner(handler);
+		char[] buffer = new char[BUFFER_SIZE];
+		for (int count = reader.read(buffer); count >= 0; count = reader.read(buffer)) {
+			for (int i = 0; i < count; ++i) {
+				scanner.feed(buffer[i], isWordCharacter(buffer[i]));
+			}
+		}
+		scanner.flush();
+	}
+
+	/**
+	 * Extract the numbers from the bytes read from the given channel, until the end of the stream.
+	 *
+	 * @param channel The source of the text, encoded in a superset of ASCII (e.g. UTF-8, or ISO-8859-1)
+	 * @param handler The receiver of the numbers found
+	 *
+	 * @throws IOException if an I/O error occurs reading from the channel
+	 *
+	 * @implNote The bytes are not decoded: the transcriptions are pure ASCII, and the bytes out of the ASCII range
+	 *           (such as parts of multi-byte UTF-8 sequences) are taken as characters of the words they are in. The
+	 *           offsets of the matches are in bytes.
+	 */
+	public void extract(ReadableByteChannel channel, MatchHandler handler) throws IOException {
+		Scanner scanner = new Scanner(handler);
+		ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+		while (channel.read(buffer) >= 0) {
+			buffer.flip();
+			scanner.feed(buffer);
+			buffer.clear();
+		}
+		scanner.flush();
+	}
+
+	/**
+	 * Extract the numbers from the remaining bytes of the given buffer, typically a
+	 * {@link java.nio.MappedByteBuffer mapped file}. The position of the buffer is advanced to its limit.
+	 *
+	 * @param buffer  The source of the text, encoded in a superset of ASCII (e.g. UTF-8, or ISO-8859-1)
+	 * @param handler The receiver of the numbers found
+	 *
+	 * @implNote The bytes are not decoded, as in {@link #extract(ReadableByteChannel, MatchHandler)}. The offsets of
+	 *           the matches are in bytes, from the position of the buffer.
+	 */
+	public void extract(ByteBuffer buffer, MatchHandler handler) {
+		Scanner scanner = new Scanner(handler);
+		scanner.feed(buffer);
+		scanner.flush();
+	}
+
+
+	/* Whether the character is part of a word; the surrogates are, being halves of characters that can be letters */
+	private static boolean isWordCharacter(char c) {
+		return Character.isLetterOrDigit(c) || c == '-' || c == '\'' || Character.isSurrogate(c);
+	}
+
+
+	/* Accumulates the runs of number words of a text fed one character at a time */
+	private final class Scanner {
+		private final MatchHandler handler;
+		/* The current run of number words, separated by single spaces: a verbatim copy of a region of the text */
+		private final StringBuilder run = new StringBuilder();
+		/* The outcome of the parsing of the regions of the run */
+		private final ParsePosition position = new ParsePosition(0);
+		/* The indices in the run of the beginnings of its words */
+		private int[] wordStarts = new int[64];
+		private int wordsCount = 0;
+		/* The offset in the text of the first character of the run */
+		private long runOffset;
+		/* The offset in the text of the next character fed */
+		private long offset = 0;
+		/* The index in the run of the beginning of the word being read, or -1 if not in a word */
+		private int wordStart = -1;
+		/* Whether the run is followed by a space, that a new word would continue it after */
+		private boolean pendingSpace = false;
+		/* Whether the current word is discarded, being too long to be a number word */
+		private boolean skippingWord = false;
+		/* Whether the current run is discarded, being too long; only its current word is kept, to find its end */
+		private boolean skippingRun = false;
+
+
+		Scanner(MatchHandler handler) {
+			this.handler = handler;
+		}
+
+		void feed(ByteBuffer buffer) {
+			for (int i = buffer.position(); i < buffer.limit(); ++i) {
+				int b = buffer.get(i) & 0xff;
+				/* The bytes out of the ASCII range are parts of encoded characters */
+				feed((char) b, b >= 0x80 || isWordCharacter((char) b));
+			}
+			buffer.position(buffer.limit());
+		}
+
+		void feed(char c, boolean wordCharacter) {
+			if (wordCharacter) {
+				appendWordCharacter(c);
+			} else {
+				endWord();
+				if (c == ' ' && run.length() > 0 && !pendingSpace) {
+					pendingSpace = true;
+				} else {
+					/* Any other separator ends the run */
+					flush();
+				}
+			}
+			++offset;
+		}
+
+		private void appendWordCharacter(char c) {
+			if (skippingWord) {
+				return;
+			}
+			if (wordStart < 0) {
+				/* Beginning of a word */
+				if (skippingRun) {
+					run.setLength(0);
+					pendingSpace = false;
+				} else if (run.length() == 0) {
+					runOffset = offset;
+				} else if (pendingSpace) {
+					run.append(' ');
+					pendingSpace = false;
+				}
+				wordStart = run.length();
+			}
+			if (run.length() == MAX_RUN_LENGTH) {
+				if (wordStart == 0) {
+					/* The word alone fills the run: it cannot be a number word, and it ends the run */
+					run.setLength(0);
+					wordStart = -1;
+					skippingWord = true;
+					skippingRun = false;
+					return;
+				}
+				/* Discard the run so far, and the rest of it up to its end */
+				run.delete(0, wordStart);
+				wordsCount = 0;
+				wordStart = 0;
+				skippingRun = true;
+			}
+			run.append(c);
+		}
+
+		private void endWord() {
+			skippingWord = false;
+			if (wordStart < 0) {
+				return;
+			}
+			if (UsEnglishLexicon.lookUp(run, wordStart, run.length()) == UsEnglishLexicon.NONE) {
+				/* Not a number word: it ends the run, and is not part of it */
+				run.setLength(wordStart == 0 ? 0 : wordStart - 1);
+				wordStart = -1;
+				flush();
+				return;
+			}
+			if (skippingRun) {
+				/* The word continues a discarded run */
+				wordStart = -1;
+				return;
+			}
+			if (wordsCount == wordStarts.length) {
+				wordStarts = Arrays.copyOf(wordStarts, 2 * wordsCount);
+			}
+			wordStarts[wordsCount++] = wordStart;
+			wordStart = -1;
+		}
+
+		/* Emit the longest transcriptions of the current run, and empty it */
+		void flush() {
+			endWord();
+			int i = 0;
+			while (i < wordsCount) {
+				int start = wordStarts[i];
+				/* Look for the longest valid transcription starting at the word i. The words from the one where an
+				 * error is detected cannot be part of it */
+				int j = wordsCount;
+				while (j > i) {
+					int end = regionEnd(j);
+					double value = parser.tryParse(run, start, end, position);
+					if (position.getErrorIndex() < 0) {
+						handler.onMatch(runOffset + start, end - start, value);
+						break;
+					}
+					int errorIndex = position.getErrorIndex();
+					do {
+						--j;
+					} while (j > i && regionEnd(j) > errorIndex);
+				}
+				i = Math.max(j, i + 1);
+			}
+			run.setLength(0);
+			wordsCount = 0;
+			pendingSpace = false;
+			skippingRun = false;
+		}
+
+		/* Return the index in the run following the word j - 1 */
+		private int regionEnd(int j) {
+			return j < wordsCount ? wordStarts[j] - 1 : run.length();
+		}
+	}
+}
@@ -1,11 +1,18 @@
 package io.github.moonstroke.spelledoutnumbers.impl;
 
-import java.math.BigInteger;
-import java.text.FieldPosition;
-import java.text.NumberFormat;
-import java.util.ArrayList;
-import java.util.List;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import io.github.moonstroke.spelledoutnumbers.NumberSpeller;
 
@@ -93,12 +100,24 @@ public class UsEnglishNumberSpeller implements NumberSpeller {
 		"nonigent",
 	};
 
-	/* Prerequisite: 0 <= rankIndex < 1000 */
-	private static String getThousandsRankName(int rankIndex) {
+	/**
+	 * The count of names of the ranks, the powers of a thousand: from a thousand to a novenonagintanonigentillion
+	 * (10<sup>3000</sup>).
+	 */
+	static final int THOUSANDS_RANK_NAMES_COUNT = 1000;
+
+	/**
+	 * Append the name of the rank of the given index to the given string builder.
+	 *
+	 * @param rankIndex       The index of the rank: 0 for a thousand, 1 for a million, etc. Prerequisite:
+	 *                        {@code 0 <= rankIndex < THOUSANDS_RANK_NAMES_COUNT}
+	 * @param rankNameBuilder The builder to append the name to
+	 */
+	static void spellOutThousandsRankName(int rankIndex, StringBuilder rankNameBuilder) {
 		if (rankIndex == 0) {
-			return "thousand";
+			rankNameBuilder.append("thousand");
+			return;
 		}
-		StringBuilder rankNameBuilder = new StringBuilder();
 		if (rankIndex <= 10) {
 			rankNameBuilder.append(THOUSANDS_SCALE_PREFIXES[rankIndex - 1]);
 		} else {
@@ -123,7 +142,6 @@ public class UsEnglishNumberSpeller implements NumberSpeller {
     		}
 		}
 		rankNameBuilder.append("illion");
-		return rankNameBuilder.toString();
 	}
 
 	/* Prerequisite: 1 <= rankIndexUnit, rankIndexTen <= 10 */
@@ -199,6 +217,21 @@ public class UsEnglishNumberSpeller implements NumberSpeller {
 			return "zero";
 		}
 		StringBuilder transcriber = new StringBuilder();
+		spellOut(doubleValue, transcriber);
+		return transcriber.toString();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @implNote The special IEEE-754 value negative zero is spelled out unsigned (simply {@code "zero"}).
+	 */
+	@Override
+	public void spellOut(double doubleValue, StringBuilder transcriber) {
+		if (Double.isNaN(doubleValue)) {
+			transcriber.append("not a number");
+			return;
+		}
 		if (doubleValue < 0) {
 			transcriber.append("minus ");
 			doubleValue = -doubleValue;
@@ -213,135 +246,801 @@ public class UsEnglishNumberSpeller implements NumberSpeller {
 				spellOutDecimalPart(doubleValue, transcriber);
 			}
 		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @implNote The words are appended one at a time from their transcriptions computed once and for all, without
+	 *           building the whole transcription first. The special IEEE-754 value negative zero is spelled out
+	 *           unsigned (simply {@code "zero"}).
+	 */
+	@Override
+	public void spellOut(double doubleValue, Appendable transcriber) throws IOException {
+		if (transcriber instanceof StringBuilder) {
+			spellOut(doubleValue, (StringBuilder) transcriber);
+			return;
+		}
+		if (Double.isNaN(doubleValue)) {
+			transcriber.append("not a number");
+			return;
+		}
+		if (doubleValue < 0) {
+			transcriber.append("minus ");
+			doubleValue = -doubleValue;
+		}
+		if (Double.isInfinite(doubleValue)) {
+			transcriber.append("infinity");
+		} else {
+			appendIntegralPart(doubleValue, transcriber);
+			if (Math.floor(doubleValue) < doubleValue) {
+				transcriber.append(" point");
+				appendDecimalPart(doubleValue, transcriber);
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @implNote The transcription is written in ASCII, from the words encoded once and for all. The special IEEE-754
+	 *           value negative zero is spelled out unsigned (simply {@code "zero"}).
+	 */
+	@Override
+	public void spellOut(double doubleValue, ByteBuffer buffer) {
+		int start = buffer.position();
+		try {
+			if (Double.isNaN(doubleValue)) {
+				buffer.put(AsciiTables.NOT_A_NUMBER);
+				return;
+			}
+			if (doubleValue < 0) {
+				buffer.put(AsciiTables.MINUS);
+				doubleValue = -doubleValue;
+			}
+			if (Double.isInfinite(doubleValue)) {
+				buffer.put(AsciiTables.INFINITY);
+			} else {
+				writeIntegralPart(doubleValue, buffer);
+				if (Math.floor(doubleValue) < doubleValue) {
+					buffer.put(AsciiTables.POINT);
+					writeDecimalPart(doubleValue, buffer);
+				}
+			}
+		} catch (BufferOverflowException e) {
+			/* Leave the position as it was: the bytes past it are free to overwrite */
+			buffer.position(start);
+			throw e;
+		}
+	}
+
+	@Override
+	public String spellOut(long longValue) {
+		if (longValue == 0) {
+			return "zero";
+		}
+		StringBuilder transcriber = new StringBuilder();
+		spellOut(longValue, transcriber);
 		return transcriber.toString();
 	}
 
-	private static final BigInteger THOUSAND = BigInteger.valueOf(1000);
+	@Override
+	public void spellOut(long longValue, StringBuilder transcriber) {
+		if (longValue == Long.MIN_VALUE) {
+			/* Its opposite is out of the range of a long: spell out its leading group separately */
+			transcriber.append("minus nine quintillion ");
+			spellOutAsLong(-(longValue + 9 * ThousandGroups.POWERS_OF_THOUSAND[6]), transcriber);
+			return;
+		}
+		if (longValue < 0) {
+			transcriber.append("minus ");
+			longValue = -longValue;
+		}
+		spellOutAsLong(longValue, transcriber);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @implNote The length is computed from the lengths of the words, without transcribing the value.
+	 */
+	@Override
+	public int spelledLength(double doubleValue) {
+		if (Double.isNaN(doubleValue)) {
+			return "not a number".length();
+		}
+		int length = 0;
+		if (doubleValue < 0) {
+			length += "minus ".length();
+			doubleValue = -doubleValue;
+		}
+		if (Double.isInfinite(doubleValue)) {
+			return length + "infinity".length();
+		}
+		length += integralPartLength(doubleValue);
+		if (Math.floor(doubleValue) < doubleValue) {
+			length += " point".length() + decimalPartLength(doubleValue);
+		}
+		return length;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @implNote The length is computed from the lengths of the words, without transcribing the value.
+	 */
+	@Override
+	public int spelledLength(long longValue) {
+		if (longValue == Long.MIN_VALUE) {
+			return "minus nine quintillion ".length()
+			       + lengthAsLong(-(longValue + 9 * ThousandGroups.POWERS_OF_THOUSAND[6]));
+		}
+		if (longValue < 0) {
+			return "minus ".length() + lengthAsLong(-longValue);
+		}
+		return lengthAsLong(longValue);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @implNote The values are counted like an odometer: the transcription of the groups of three digits above the
+	 *           units is kept from one value to the next, and only rebuilt from the highest group that changed. The
+	 *           stream can be split for parallel processing.
+	 */
+	@Override
+	public Stream<String> spellRange(long fromInclusive, long toExclusive) {
+		return StreamSupport.stream(new RangeSpliterator(fromInclusive, toExclusive), false);
+	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @implNote The decimal part is spelled out with as many digits as the scale of the value, trailing zeros
+	 *           included. The values of negative scale are integral.
+	 *
+	 * @throws IllegalArgumentException if the value is too large for all its ranks to have a name, that is if it is not
+	 *                                  less than 10<sup>3003</sup> in magnitude
+	 */
+	@Override
+	public String spellOut(BigDecimal decimalValue) {
+		/* Checked before the digits are written out: their count is unbounded */
+		if ((long) decimalValue.precision() - decimalValue.scale() > 3L * MAX_GROUPS_COUNT) {
+			throw new IllegalArgumentException("Value too large to be spelled out: " + decimalValue);
+		}
+		StringBuilder transcriber = new StringBuilder();
+		if (decimalValue.signum() < 0) {
+			transcriber.append("minus ");
+		}
+		String digits = decimalValue.abs().toPlainString();
+		int point = digits.indexOf('.');
+		int integralDigitsCount = point < 0 ? digits.length() : point;
+		if (integralDigitsCount <= MAX_LONG_DIGITS) {
+			spellOutAsLong(Long.parseLong(digits, 0, integralDigitsCount, 10), transcriber);
+		} else {
+			/* Split the digits in groups of three, least significant first */
+			int groupsCount = (integralDigitsCount + 2) / 3;
+			int[] groups = new int[groupsCount];
+			for (int rank = 0; rank < groupsCount; ++rank) {
+				int groupEnd = integralDigitsCount - 3 * rank;
+				groups[rank] = Integer.parseInt(digits, Math.max(groupEnd - 3, 0), groupEnd, 10);
+			}
+			spellOutThousandGroups(groups, groupsCount, transcriber);
+		}
+		if (point >= 0) {
+			transcriber.append(" point");
+			for (int i = point + 1; i < digits.length(); ++i) {
+				transcriber.append(' ').append(DIGITS_TEENS[digits.charAt(i) - '0']);
+			}
+		}
+		return transcriber.toString();
+	}
 
 	/* Prerequisite: doubleValue >= 0 */
 	private static void spellOutIntegralPart(double doubleValue, StringBuilder transcriber) {
-		List<String> words = new ArrayList<>();
-
 		if (doubleValue < 0x1p63) {
 			/* Lower than Long.MAX_VALUE (not possibly equal to it, as it is not representable
 			 * as a IEEE-754 double) => fits in a long. Process it as such */
-			spellOutAsLong((long) doubleValue, words);
+			spellOutAsLong((long) doubleValue, transcriber);
 		} else {
-			spellOutThousandGroup((long) (doubleValue % 1000.), words);
-			BigInteger bigValue = asBigInteger(doubleValue);
-			for (int i = 0; i < 102; ++i) {
-				bigValue = bigValue.divide(THOUSAND);
-				if (bigValue.equals(BigInteger.ZERO)) {
-					break;
-				}
-				long thisGroup = bigValue.remainder(THOUSAND).longValue();
-				if (thisGroup > 0) {
-					String rankName = getThousandsRankName(i);
-					words.add(rankName);
-					spellOutThousandGroup(thisGroup, words);
-				}
+			/* Split the value in groups of three digits, least significant first */
+			int[] groups = new int[ThousandGroups.BUFFER_SIZE];
+			int groupsCount = ThousandGroups.split(doubleValue, groups);
+			spellOutThousandGroups(groups, groupsCount, transcriber);
+		}
+	}
+
+	/* Prerequisite: doubleValue >= 0, finite */
+	private static int integralPartLength(double doubleValue) {
+		if (doubleValue < 0x1p63) {
+			return lengthAsLong((long) doubleValue);
+		}
+		int[] groups = new int[ThousandGroups.BUFFER_SIZE];
+		int rank = ThousandGroups.split(doubleValue, groups) - 1;
+		int length = thousandGroupLength(groups[rank], rank);
+		for (--rank; rank >= 0; --rank) {
+			if (groups[rank] > 0) {
+				length += 1 + thousandGroupLength(groups[rank], rank);
 			}
 		}
-		for (int i = words.size() - 1; i > 0; --i) {
-			transcriber.append(words.get(i)).append(' ');
+		return length;
+	}
+
+	/* Prerequisite: doubleValue >= 0, finite */
+	private static void writeIntegralPart(double doubleValue, ByteBuffer buffer) {
+		if (doubleValue < 0x1p63) {
+			writeAsLong((long) doubleValue, buffer);
+			return;
+		}
+		int[] groups = new int[ThousandGroups.BUFFER_SIZE];
+		int rank = ThousandGroups.split(doubleValue, groups) - 1;
+		writeThousandGroup(groups[rank], rank, buffer);
+		for (--rank; rank >= 0; --rank) {
+			if (groups[rank] > 0) {
+				buffer.put((byte) ' ');
+				writeThousandGroup(groups[rank], rank, buffer);
+			}
+		}
+	}
+
+	/* Prerequisite: doubleValue >= 0, finite */
+	private static void appendIntegralPart(double doubleValue, Appendable transcriber) throws IOException {
+		if (doubleValue < 0x1p63) {
+			appendAsLong((long) doubleValue, transcriber);
+			return;
+		}
+		int[] groups = new int[ThousandGroups.BUFFER_SIZE];
+		int rank = ThousandGroups.split(doubleValue, groups) - 1;
+		appendThousandGroup(groups[rank], rank, transcriber);
+		for (--rank; rank >= 0; --rank) {
+			if (groups[rank] > 0) {
+				transcriber.append(' ');
+				appendThousandGroup(groups[rank], rank, transcriber);
+			}
 		}
-		transcriber.append(words.get(0));
 	}
 
+	/* The count of digits of the integers that all fit in a long */
+	private static final int MAX_LONG_DIGITS = 18;
+	/* The count of groups of three digits that can be spelled out: one per rank name, and the units */
+	private static final int MAX_GROUPS_COUNT = THOUSANDS_RANK_NAMES_COUNT + 1;
+
 	/* Prerequisite: longValue >= 0 */
-	private static void spellOutAsLong(long longValue, List<String> words) {
+	private static void spellOutAsLong(long longValue, StringBuilder transcriber) {
+		if (longValue == 0) {
+			transcriber.append("zero");
+			return;
+		}
 		/* A quintillion is the highest power of a thousand (a "rank") in the range of a long */
-		/* ... and 5 is the index of the quintillion's prefix in the ranks array. For longs,
-		 * we won't go above this */
-		spellOutThousandGroup(longValue % 1000, words);
-		for (int i = 0; i < 6; ++i) {
-			longValue /= 1000;
-			if (longValue == 0) {
-				break;
-			}
-			long thisGroup = longValue % 1000;
+		int rank = ThousandGroups.POWERS_OF_THOUSAND.length - 1;
+		while (longValue < ThousandGroups.POWERS_OF_THOUSAND[rank]) {
+			--rank;
+		}
+		/* The leading group is nonzero */
+		spellOutThousandGroup((int) (longValue / ThousandGroups.POWERS_OF_THOUSAND[rank]), rank, transcriber);
+		for (--rank; rank >= 0; --rank) {
+			int thisGroup = (int) (longValue / ThousandGroups.POWERS_OF_THOUSAND[rank] % 1000);
 			if (thisGroup > 0) {
-				String rankName = getThousandsRankName(i);
-				words.add(rankName);
-				spellOutThousandGroup(thisGroup, words);
+				transcriber.append(' ');
+				spellOutThousandGroup(thisGroup, rank, transcriber);
 			}
 		}
 	}
 
-	/* Prerequisite: 0 <= longValue <= 999 */
-	private static void spellOutThousandGroup(long longValue, List<String> words) {
-		spellOutUnderOneHundred(longValue % 100, words);
-		if (longValue >= 100) {
-			words.add("hundred");
-			spellOutDigit(longValue / 100, words);
+	/* Prerequisite: longValue >= 0 */
+	private static int lengthAsLong(long longValue) {
+		if (longValue == 0) {
+			return "zero".length();
+		}
+		int rank = ThousandGroups.POWERS_OF_THOUSAND.length - 1;
+		while (longValue < ThousandGroups.POWERS_OF_THOUSAND[rank]) {
+			--rank;
+		}
+		int length = thousandGroupLength((int) (longValue / ThousandGroups.POWERS_OF_THOUSAND[rank]), rank);
+		for (--rank; rank >= 0; --rank) {
+			int thisGroup = (int) (longValue / ThousandGroups.POWERS_OF_THOUSAND[rank] % 1000);
+			if (thisGroup > 0) {
+				length += 1 + thousandGroupLength(thisGroup, rank);
+			}
 		}
+		return length;
 	}
 
-	/* Prerequisite: 0 <= longValue <= 99 */
-	private static void spellOutUnderOneHundred(long longValue, List<String> words) {
-		if (longValue >= 20) {
-			String groupTranscription = TENS_PREFIXES[(int) longValue / 10 - 2] + "ty";
-			int remainder = (int) longValue % 10;
-			if (remainder != 0) {
-				groupTranscription += "-" + DIGITS_TEENS[remainder];
-			}
-			words.add(groupTranscription);
-		} else if (longValue == 13 || longValue >= 15) {
-			words.add(TENS_PREFIXES[(int) longValue - 12] + "teen");
-		} else if (longValue > 0) {
-			spellOutDigit(longValue, words);
-		}
-	}
-
-	/* Prerequisite: 0 <= longValue <= 12 || longValue == 14 */
-	private static void spellOutDigit(long longValue, List<String> words) {
-		words.add(DIGITS_TEENS[(int) longValue]);
-	}
-
-	/* Prerequisite: doubleValue > Long.MAX_VALUE */
-	/* No risk of losing a fractional part: in this range, only integral numbers are representable */
-	private static BigInteger asBigInteger(double doubleValue) {
-		/* Subtract the significand width so that 1 <= significand < 2 */
-		int exponent = Math.getExponent(doubleValue) - 52;
-		/* Clip mantissa bits and add back implicit leading unit bit */
-		long significand = (Double.doubleToLongBits(doubleValue) & 0xfffffffffffffL) + 0x10000000000000L;
-		int additionalPowersOfTwo = Long.numberOfTrailingZeros(significand);
-		/* Move powers of two from the significand to the exponent to minimize the former and maximize the latter */
-		exponent += additionalPowersOfTwo;
-		significand >>= additionalPowersOfTwo;
-		BigInteger bigExponent;
-		if (exponent < 63) {
-			bigExponent = BigInteger.valueOf(1L << exponent);
-		} else {
-			bigExponent = BigInteger.TWO.pow(exponent);
+	/* Prerequisite: longValue >= 0 */
+	private static void writeAsLong(long longValue, ByteBuffer buffer) {
+		if (longValue == 0) {
+			buffer.put(AsciiTables.DIGITS[0]);
+			return;
+		}
+		int rank = ThousandGroups.POWERS_OF_THOUSAND.length - 1;
+		while (longValue < ThousandGroups.POWERS_OF_THOUSAND[rank]) {
+			--rank;
+		}
+		writeThousandGroup((int) (longValue / ThousandGroups.POWERS_OF_THOUSAND[rank]), rank, buffer);
+		for (--rank; rank >= 0; --rank) {
+			int thisGroup = (int) (longValue / ThousandGroups.POWERS_OF_THOUSAND[rank] % 1000);
+			if (thisGroup > 0) {
+				buffer.put((byte) ' ');
+				writeThousandGroup(thisGroup, rank, buffer);
+			}
 		}
-		return BigInteger.valueOf(significand).multiply(bigExponent);
 	}
 
+	/* Prerequisite: longValue >= 0 */
+	private static void appendAsLong(long longValue, Appendable transcriber) throws IOException {
+		if (longValue == 0) {
+			transcriber.append("zero");
+			return;
+		}
+		int rank = ThousandGroups.POWERS_OF_THOUSAND.length - 1;
+		while (longValue < ThousandGroups.POWERS_OF_THOUSAND[rank]) {
+			--rank;
+		}
+		appendThousandGroup((int) (longValue / ThousandGroups.POWERS_OF_THOUSAND[rank]), rank, transcriber);
+		for (--rank; rank >= 0; --rank) {
+			int thisGroup = (int) (longValue / ThousandGroups.POWERS_OF_THOUSAND[rank] % 1000);
+			if (thisGroup > 0) {
+				transcriber.append(' ');
+				appendThousandGroup(thisGroup, rank, transcriber);
+			}
+		}
+	}
+
+	/* Prerequisite: 0 < groupsCount <= groups.length, groups[groupsCount - 1] > 0 */
+	private static void spellOutThousandGroups(int[] groups, int groupsCount, StringBuilder transcriber) {
+		int rank = groupsCount - 1;
+		spellOutThousandGroup(groups[rank], rank, transcriber);
+		for (--rank; rank >= 0; --rank) {
+			if (groups[rank] > 0) {
+				transcriber.append(' ');
+				spellOutThousandGroup(groups[rank], rank, transcriber);
+			}
+		}
+	}
+
+	/* Prerequisite: 0 < group <= 999, 0 <= rank < MAX_GROUPS_COUNT */
+	private static void spellOutThousandGroup(int group, int rank, StringBuilder transcriber) {
+		transcriber.append(Tables.THOUSAND_GROUPS[group]);
+		if (rank > 0) {
+			/* The rank names start at one thousand */
+			transcriber.append(' ');
+			if (rank <= Tables.THOUSANDS_RANK_NAMES.length) {
+				transcriber.append(Tables.THOUSANDS_RANK_NAMES[rank - 1]);
+			} else {
+				/* Beyond the range of a double: only reached by decimal values */
+				spellOutThousandsRankName(rank - 1, transcriber);
+			}
+		}
+	}
+
+
+	/* Prerequisite: 0 < group <= 999, 0 <= rank <= Tables.THOUSANDS_RANK_NAMES.length */
+	private static int thousandGroupLength(int group, int rank) {
+		int length = Tables.THOUSAND_GROUP_LENGTHS[group];
+		if (rank > 0) {
+			length += 1 + Tables.THOUSANDS_RANK_NAME_LENGTHS[rank - 1];
+		}
+		return length;
+	}
 
-	private static final NumberFormat FMT = NumberFormat.getInstance(Locale.US);
+	/* Prerequisite: 0 < group <= 999, 0 <= rank <= Tables.THOUSANDS_RANK_NAMES.length */
+	private static void writeThousandGroup(int group, int rank, ByteBuffer buffer) {
+		buffer.put(AsciiTables.THOUSAND_GROUPS[group]);
+		if (rank > 0) {
+			buffer.put((byte) ' ').put(AsciiTables.THOUSANDS_RANK_NAMES[rank - 1]);
+		}
+	}
 
-	static {
-		FMT.setGroupingUsed(false);
-		FMT.setMaximumFractionDigits(Integer.MAX_VALUE);
+	/* Prerequisite: 0 < group <= 999, 0 <= rank <= Tables.THOUSANDS_RANK_NAMES.length */
+	private static void appendThousandGroup(int group, int rank, Appendable transcriber) throws IOException {
+		transcriber.append(Tables.THOUSAND_GROUPS[group]);
+		if (rank > 0) {
+			transcriber.append(' ').append(Tables.THOUSANDS_RANK_NAMES[rank - 1]);
+		}
+	}
+
+	/* Transcriptions of the groups of three digits and of the names of the ranks, computed on first use */
+	private static final class Tables {
+		/* The transcriptions of the groups, indexed by their value. Zero, that is never spelled out as a group, is
+		 * left out */
+		static final String[] THOUSAND_GROUPS = new String[1000];
+		/* The names of the ranks, from a thousand to the highest rank in the range of a double (uncentillion) */
+		static final String[] THOUSANDS_RANK_NAMES = new String[102];
+		/* The lengths of the transcriptions of the groups and of the names of the ranks, at the same indices */
+		static final byte[] THOUSAND_GROUP_LENGTHS = new byte[THOUSAND_GROUPS.length];
+		static final byte[] THOUSANDS_RANK_NAME_LENGTHS = new byte[THOUSANDS_RANK_NAMES.length];
+
+		static {
+			StringBuilder transcriber = new StringBuilder();
+			for (int group = 1; group < THOUSAND_GROUPS.length; ++group) {
+				transcriber.setLength(0);
+				spellOutThousandGroup(group, transcriber);
+				THOUSAND_GROUPS[group] = transcriber.toString();
+				THOUSAND_GROUP_LENGTHS[group] = (byte) transcriber.length();
+			}
+			for (int rankIndex = 0; rankIndex < THOUSANDS_RANK_NAMES.length; ++rankIndex) {
+				transcriber.setLength(0);
+				spellOutThousandsRankName(rankIndex, transcriber);
+				THOUSANDS_RANK_NAMES[rankIndex] = transcriber.toString();
+				THOUSANDS_RANK_NAME_LENGTHS[rankIndex] = (byte) transcriber.length();
+			}
+		}
 	}
 
+	/* Transcribes a range of integers by counting in groups of three digits */
+	private static final class RangeSpliterator implements Spliterator<String> {
+		/* The count of groups of a long: up to the quintillions */
+		private static final int GROUPS_COUNT = ThousandGroups.POWERS_OF_THOUSAND.length;
+		/* The least count of values of a range worth splitting, as each part rebuilds its transcription entirely */
+		private static final long MIN_SPLIT_SIZE = 1024;
+
+		/* The range of values left to transcribe */
+		private long next;
+		private final long end;
+		private final int characteristics;
+
+		/* Whether the fields below describe next; they are computed anew after the sign changes, and on splits */
+		private boolean counting = false;
+		/* The groups of three digits of the magnitude of next, the units first */
+		private final int[] groups = new int[GROUPS_COUNT];
+		/* The transcription of the sign and of the groups above the units of next, and its length after the sign and
+		 * after the groups of each rank, from the highest */
+		private final StringBuilder prefix = new StringBuilder();
+		private final int[] prefixEnds = new int[GROUPS_COUNT + 1];
+
+
+		RangeSpliterator(long fromInclusive, long toExclusive) {
+			next = fromInclusive;
+			end = Math.max(fromInclusive, toExclusive);
+			/* The count of values is only known if it is in the range of a long */
+			characteristics = ORDERED | DISTINCT | NONNULL | IMMUTABLE | (end - next >= 0 ? SIZED | SUBSIZED : 0);
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super String> action) {
+			if (next == end) {
+				return false;
+			}
+			action.accept(current());
+			advance();
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super String> action) {
+			while (next != end) {
+				action.accept(current());
+				advance();
+			}
+		}
+
+		@Override
+		public Spliterator<String> trySplit() {
+			long size = end - next;
+			if (size >= 0 && size < MIN_SPLIT_SIZE) {
+				return null;
+			}
+			/* The half of the count of values, even if it is out of the range of a long */
+			long middle = next + (size >>> 1);
+			Spliterator<String> prefixSpliterator = new RangeSpliterator(next, middle);
+			next = middle;
+			counting = false;
+			return prefixSpliterator;
+		}
+
+		@Override
+		public long estimateSize() {
+			long size = end - next;
+			return size >= 0 ? size : Long.MAX_VALUE;
+		}
+
+		@Override
+		public int characteristics() {
+			return characteristics;
+		}
+
+		/* Return the transcription of next */
+		private String current() {
+			if (next == Long.MIN_VALUE) {
+				/* Its magnitude is out of the range of a long */
+				StringBuilder transcriber = new StringBuilder("minus nine quintillion ");
+				spellOutAsLong(-(next + 9 * ThousandGroups.POWERS_OF_THOUSAND[6]), transcriber);
+				return transcriber.toString();
+			}
+			if (!counting) {
+				split(Math.abs(next));
+				prefix.setLength(0);
+				if (next < 0) {
+					prefix.append("minus ");
+				}
+				prefixEnds[GROUPS_COUNT] = prefix.length();
+				rebuildPrefix(GROUPS_COUNT - 1);
+				counting = true;
+			}
+			if (groups[0] == 0) {
+				return next == 0 ? "zero" : prefix.toString();
+			}
+			String units = Tables.THOUSAND_GROUPS[groups[0]];
+			if (prefix.length() == prefixEnds[GROUPS_COUNT]) {
+				/* No group above the units */
+				return prefix.length() == 0 ? units : prefix + units;
+			}
+			return new StringBuilder(prefix.length() + 1 + units.length()).append(prefix).append(' ').append(units)
+			                                                              .toString();
+		}
+
+		/* Move on to the value following next */
+		private void advance() {
+			if (next == -1 || next == Long.MIN_VALUE) {
+				/* The sign changes, or the magnitude comes in the range of a long */
+				counting = false;
+			} else if (counting) {
+				int rank = next < 0 ? decrement() : increment();
+				if (rank > 0) {
+					rebuildPrefix(rank);
+				}
+			}
+			++next;
+		}
+
+		/* Add one to the magnitude; return the highest rank whose group changed */
+		private int increment() {
+			int rank = 0;
+			while (++groups[rank] == 1000) {
+				groups[rank++] = 0;
+			}
+			return rank;
+		}
+
+		/* Subtract one from the magnitude; return the highest rank whose group changed */
+		private int decrement() {
+			int rank = 0;
+			while (--groups[rank] < 0) {
+				groups[rank++] = 999;
+			}
+			return rank;
+		}
+
+		/* Prerequisite: magnitude >= 0 */
+		private void split(long magnitude) {
+			for (int rank = 0; rank < GROUPS_COUNT; ++rank) {
+				groups[rank] = (int) (magnitude % 1000);
+				magnitude /= 1000;
+			}
+		}
+
+		/* Transcribe anew the groups from the given rank down to the thousands, after the higher ones */
+		private void rebuildPrefix(int highestRank) {
+			prefix.setLength(prefixEnds[highestRank + 1]);
+			for (int rank = highestRank; rank > 0; --rank) {
+				if (groups[rank] > 0) {
+					if (prefix.length() > prefixEnds[GROUPS_COUNT]) {
+						prefix.append(' ');
+					}
+					spellOutThousandGroup(groups[rank], rank, prefix);
+				}
+				prefixEnds[rank] = prefix.length();
+			}
+		}
+	}
+
+	/* The words of the transcriptions of doubles, encoded in ASCII, computed on first use */
+	private static final class AsciiTables {
+		static final byte[] NOT_A_NUMBER = ascii("not a number");
+		static final byte[] MINUS = ascii("minus ");
+		static final byte[] INFINITY = ascii("infinity");
+		static final byte[] POINT = ascii(" point");
+		static final byte[][] DIGITS = new byte[10][];
+		/* The digits preceded by a space, as spelled out in the decimal part */
+		static final byte[][] SPACED_DIGITS = new byte[DIGITS.length][];
+		static final byte[][] THOUSAND_GROUPS = new byte[Tables.THOUSAND_GROUPS.length][];
+		static final byte[][] THOUSANDS_RANK_NAMES = new byte[Tables.THOUSANDS_RANK_NAMES.length][];
+
+		static {
+			for (int digit = 0; digit < DIGITS.length; ++digit) {
+				DIGITS[digit] = ascii(DIGITS_TEENS[digit]);
+				SPACED_DIGITS[digit] = ascii(' ' + DIGITS_TEENS[digit]);
+			}
+			for (int group = 1; group < THOUSAND_GROUPS.length; ++group) {
+				THOUSAND_GROUPS[group] = ascii(Tables.THOUSAND_GROUPS[group]);
+			}
+			for (int rankIndex = 0; rankIndex < THOUSANDS_RANK_NAMES.length; ++rankIndex) {
+				THOUSANDS_RANK_NAMES[rankIndex] = ascii(Tables.THOUSANDS_RANK_NAMES[rankIndex]);
+			}
+		}
+
+		private static byte[] ascii(String word) {
+			return word.getBytes(StandardCharsets.US_ASCII);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @implNote Each word takes a {@code short} token, whatever its length; the transcriptions of the special values
+	 *           are encoded as well.
+	 */
+	@Override
+	public short[] encode(CharSequence transcription) {
+		/* The words are separated by single spaces: an empty word is invalid */
+		short[] tokens = new short[countWords(transcription)];
+		int wordStart = 0;
+		for (int i = 0; i < tokens.length; ++i) {
+			int wordEnd = wordStart;
+			while (wordEnd < transcription.length() && transcription.charAt(wordEnd) != ' ') {
+				++wordEnd;
+			}
+			Integer token = Vocabulary.TOKENS.get(transcription.subSequence(wordStart, wordEnd).toString());
+			if (token == null) {
+				return null;
+			}
+			tokens[i] = (short) (int) token;
+			wordStart = wordEnd + 1;
+		}
+		return tokens;
+	}
+
+	private static int countWords(CharSequence transcription) {
+		int wordsCount = 1;
+		for (int i = 0; i < transcription.length(); ++i) {
+			if (transcription.charAt(i) == ' ') {
+				++wordsCount;
+			}
+		}
+		return wordsCount;
+	}
+
+	@Override
+	public String decode(short[] tokens) {
+		/* Most words are under eight characters long */
+		StringBuilder transcriber = new StringBuilder(8 * tokens.length);
+		for (int i = 0; i < tokens.length; ++i) {
+			if (tokens[i] < 0 || tokens[i] >= Vocabulary.WORDS.length) {
+				/* Not encoded by this speller */
+				return null;
+			}
+			if (i > 0) {
+				transcriber.append(' ');
+			}
+			transcriber.append(Vocabulary.WORDS[tokens[i]]);
+		}
+		return transcriber.toString();
+	}
+
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @implNote The identifier is the hash of the words in the order of their tokens.
+	 */
+	@Override
+	public int vocabularyId() {
+		return Vocabulary.ID;
+	}
+
+	/* The words of the transcriptions, indexed by their token, computed on first use */
+	private static final class Vocabulary {
+		/* The token of the first rank name; the other words have fixed tokens, so that the rank names can be added */
+		private static final int FIRST_RANK_NAME_TOKEN = 107;
+
+		static final String[] WORDS = new String[FIRST_RANK_NAME_TOKEN + THOUSANDS_RANK_NAMES_COUNT];
+		static final Map<String, Integer> TOKENS = new HashMap<>(2 * WORDS.length);
+		static final int ID;
+
+		static {
+			WORDS[0] = "zero";
+			StringBuilder transcriber = new StringBuilder();
+			for (int value = 1; value < 100; ++value) {
+				transcriber.setLength(0);
+				spellOutUnderOneHundred(value, transcriber);
+				WORDS[value] = transcriber.toString();
+			}
+			WORDS[100] = "hundred";
+			WORDS[101] = "point";
+			WORDS[102] = "minus";
+			WORDS[103] = "infinity";
+			WORDS[104] = "not";
+			WORDS[105] = "a";
+			WORDS[106] = "number";
+			System.arraycopy(Tables.THOUSANDS_RANK_NAMES, 0, WORDS, FIRST_RANK_NAME_TOKEN,
+			                 Tables.THOUSANDS_RANK_NAMES.length);
+			/* The names of the ranks beyond the range of a double, only spelled out for decimal values */
+			for (int rankIndex = Tables.THOUSANDS_RANK_NAMES.length; rankIndex < THOUSANDS_RANK_NAMES_COUNT;
+			     ++rankIndex) {
+				transcriber.setLength(0);
+				spellOutThousandsRankName(rankIndex, transcriber);
+				WORDS[FIRST_RANK_NAME_TOKEN + rankIndex] = transcriber.toString();
+			}
+			for (int token = 0; token < WORDS.length; ++token) {
+				TOKENS.put(WORDS[token], token);
+			}
+			ID = Arrays.hashCode(WORDS);
+		}
+	}
+
+	/* Prerequisite: 0 < group <= 999 */
+	private static void spellOutThousandGroup(int group, StringBuilder transcriber) {
+		int underOneHundred = group % 100;
+		if (group >= 100) {
+			transcriber.append(DIGITS_TEENS[group / 100]).append(" hundred");
+			if (underOneHundred == 0) {
+				return;
+			}
+			transcriber.append(' ');
+		}
+		spellOutUnderOneHundred(underOneHundred, transcriber);
+	}
+
+	/* Prerequisite: 0 < value <= 99 */
+	private static void spellOutUnderOneHundred(int value, StringBuilder transcriber) {
+		if (value >= 20) {
+			transcriber.append(TENS_PREFIXES[value / 10 - 2]).append("ty");
+			int remainder = value % 10;
+			if (remainder != 0) {
+				transcriber.append('-').append(DIGITS_TEENS[remainder]);
+			}
+		} else if (value == 13 || value >= 15) {
+			transcriber.append(TENS_PREFIXES[value - 12]).append("teen");
+		} else {
+			transcriber.append(DIGITS_TEENS[value]);
+		}
+	}
 
 	/* Prerequisite: doubleValue has a decimal part (not integral) */
-	private static void spellOutDecimalPart(double doubleValue, StringBuilder transcriber) {
-		/* Hack: format the value to a numeric string and parse the digits
-		 * following the decimal separator */
+	private static int decimalPartLength(double doubleValue) {
+		byte[] digits = new byte[DoubleToDecimal.MAX_DIGITS];
+		int decimal = DoubleToDecimal.toDecimal(doubleValue, digits);
+		int digitsCount = DoubleToDecimal.digitsCount(decimal);
+		int integralDigitsCount = digitsCount + DoubleToDecimal.exponent(decimal);
+		/* Each digit is preceded by a space */
+		int length = Math.max(-integralDigitsCount, 0) * " zero".length();
+		for (int i = Math.max(integralDigitsCount, 0); i < digitsCount; ++i) {
+			length += 1 + DIGITS_TEENS[digits[i]].length();
+		}
+		return length;
+	}
 
-		StringBuffer buffer = new StringBuffer();
-		/* Request boundaries of the decimal (fraction) part of the number */
-		FieldPosition pos = new FieldPosition(NumberFormat.FRACTION_FIELD);
+	/* Prerequisite: doubleValue has a decimal part (not integral) */
+	private static void writeDecimalPart(double doubleValue, ByteBuffer buffer) {
+		byte[] digits = new byte[DoubleToDecimal.MAX_DIGITS];
+		int decimal = DoubleToDecimal.toDecimal(doubleValue, digits);
+		int digitsCount = DoubleToDecimal.digitsCount(decimal);
+		int integralDigitsCount = digitsCount + DoubleToDecimal.exponent(decimal);
+		for (int i = integralDigitsCount; i < 0; ++i) {
+			buffer.put(AsciiTables.SPACED_DIGITS[0]);
+		}
+		for (int i = Math.max(integralDigitsCount, 0); i < digitsCount; ++i) {
+			buffer.put(AsciiTables.SPACED_DIGITS[digits[i]]);
+		}
+	}
 
-		FMT.format(doubleValue, buffer, pos);
-		for (int i = pos.getBeginIndex(); i < pos.getEndIndex(); ++i) {
-			char digit = buffer.charAt(i);
-			transcriber.append(' ').append(DIGITS_TEENS[digit - '0']);
+	/* Prerequisite: doubleValue has a decimal part (not integral) */
+	private static void appendDecimalPart(double doubleValue, Appendable transcriber) throws IOException {
+		byte[] digits = new byte[DoubleToDecimal.MAX_DIGITS];
+		int decimal = DoubleToDecimal.toDecimal(doubleValue, digits);
+		int digitsCount = DoubleToDecimal.digitsCount(decimal);
+		int integralDigitsCount = digitsCount + DoubleToDecimal.exponent(decimal);
+		for (int i = integralDigitsCount; i < 0; ++i) {
+			transcriber.append(" zero");
+		}
+		for (int i = Math.max(integralDigitsCount, 0); i < digitsCount; ++i) {
+			transcriber.append(' ').append(DIGITS_TEENS[digits[i]]);
+		}
+	}
+
+	/* Prerequisite: doubleValue has a decimal part (not integral) */
+	private static void spellOutDecimalPart(double doubleValue, StringBuilder transcriber) {
+		/* Spell out the decimals of the shortest decimal number that rounds to the value */
+		byte[] digits = new byte[DoubleToDecimal.MAX_DIGITS];
+		int decimal = DoubleToDecimal.toDecimal(doubleValue, digits);
+		int digitsCount = DoubleToDecimal.digitsCount(decimal);
+		/* The count of digits in the integral part; negative if there are leading zeros in the decimal part */
+		int integralDigitsCount = digitsCount + DoubleToDecimal.exponent(decimal);
+		for (int i = integralDigitsCount; i < 0; ++i) {
+			transcriber.append(" zero");
+		}
+		for (int i = Math.max(integralDigitsCount, 0); i < digitsCount; ++i) {
+			transcriber.append(' ').append(DIGITS_TEENS[digits[i]]);
 		}
-		// TODO
 	}
 }
@@ -1,8 +1,12 @@
 package io.github.moonstroke.spelledoutnumbers.impl;
 
-import java.util.Iterator;
-import java.util.List;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.text.ParsePosition;
+import java.util.Arrays;
 import java.util.Locale;
+import java.util.Objects;
 
 import io.github.moonstroke.spelledoutnumbers.NumericTextParser;
 
@@ -18,231 +22,525 @@ public class UsEnglishNumericTextParser implements NumericTextParser {
 	}
 
 
-	/* Transcriptions for numbers from one through nine */
-	private static final List<String> DIGITS = List.of(
-			"one",
-			"two",
-			"three",
-			"four",
-			"five",
-			"six",
-			"seven",
-			"eight",
-			"nine"
-	);
-	/* Transcriptions from numbers ten to twelve (do not fit other parts of the algorithm) */
-	private static final List<String> LOW_NUMBERS = List.of(
-			"ten",
-			"eleven",
-			"twelve"
-	);
-	/* Prefixes for -teen numbers */
-	private static final List<String> TEEN_PREFIXES = List.of(
-			"thir",
-			"four",
-			"fif",
-			"six",
-			"seven",
-			"eigh",
-			"nine"
-	);
-	/* Prefixes for -ty numbers */
-	private static final List<String> TY_PREFIXES = List.of(
-			"twen",
-			"thir",
-			"for",
-			"fif",
-			"six",
-			"seven",
-			"eigh",
-			"nine"
-		);
-
-	private static final List<String> ZILLION_PREFIXES = List.of(
-			"m",
-			"b",
-			"tr",
-			"quadr",
-			"quint",
-			"sext",
-			"sept",
-			"oct",
-			"non",
-			"dec"
-	);
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @implNote The text {@code "minus zero"} is parsed as the special IEEE-754 value negative zero. The numbers
+	 *           whose scale names are beyond the range of a double (from a duocentillion) are parsed as infinite.
+	 */
+	@Override
+	public double parse(String text) throws NumberFormatException {
+		return parse(text, 0, text.length());
+	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @implNote The text {@code "minus zero"} is parsed as the special IEEE-754 value negative zero. The numbers
+	 *           whose scale names are beyond the range of a double (from a duocentillion) are parsed as infinite.
+	 */
+	@Override
+	public double parse(CharSequence text, int start, int end) throws NumberFormatException {
+		ParsePosition position = new ParsePosition(start);
+		double parsedValue = tryParse(text, start, end, position);
+		if (position.getErrorIndex() >= 0) {
+			throw new NumberFormatException("Unrecognized transcription: " + text.subSequence(start, end));
+		}
+		return parsedValue;
+	}
 
 	/**
 	 * {@inheritDoc}
 	 *
-	 * @implNote The text {@code "minus zero"} is parsed as the special IEEE-754 value negative zero.
+	 * @implNote The bytes are not decoded: the vocabulary is ASCII, and the bytes are parsed through a view of them as
+	 *           characters. The bytes beyond ASCII are read as in ISO-8859-1, which rejects them as UTF-8 decoding
+	 *           would.
 	 */
 	@Override
-	public double parse(String text) throws NumberFormatException {
-		if (text.equals("not a number")) {
+	public double parseUtf8(ByteBuffer bytes) throws NumberFormatException {
+		double value = parse(new AsciiCharSequence(bytes, bytes.position(), bytes.limit()), 0, bytes.remaining());
+		bytes.position(bytes.limit());
+		return value;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @implNote The text {@code "minus zero"} is parsed as the special IEEE-754 value negative zero. The error index
+	 *           is the index of the first word that cannot follow the preceding ones, or the end of the region if the
+	 *           words are only the beginning of a transcription.
+	 */
+	@Override
+	public double tryParse(CharSequence text, int start, int end, ParsePosition position) {
+		Objects.checkFromToIndex(start, end, text.length());
+		position.setErrorIndex(-1);
+		DecimalAccumulator accumulator = new DecimalAccumulator();
+		int state = parseWords(text, start, end, position, accumulator);
+		double parsedValue;
+		switch (state) {
+		case Grammar.FAILED:
 			return Double.NaN;
+		case Grammar.NOT_A_NUMBER_READ:
+			parsedValue = Double.NaN;
+			break;
+		case Grammar.INFINITY_READ:
+			parsedValue = Double.POSITIVE_INFINITY;
+			break;
+		default:
+			parsedValue = accumulator.doubleValue();
 		}
-		if (text.startsWith("minus ")) {
-			return -parse(text.substring("minus ".length()));
-		}
-		if (text.equals("infinity")) {
-			return Double.POSITIVE_INFINITY;
+		position.setIndex(end);
+		return isNegative(text, start, end) ? -parsedValue : parsedValue;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @implNote The text is checked in a single pass over its characters: the characters of each word drive the
+	 *           automaton of the vocabulary, and the kind of each word the automaton of the grammar. Only the order
+	 *           of the scale names is checked out of the automata.
+	 */
+	@Override
+	public boolean isValid(CharSequence text) {
+		return parseWords(text, 0, text.length(), new ParsePosition(0), VALIDATOR) != Grammar.FAILED;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @implNote The transcription {@code "minus zero"} is parsed as zero. The scale of the value is the count of
+	 *           digits of the decimal part of the transcription, including its trailing zeros.
+	 */
+	@Override
+	public BigDecimal parseBigDecimal(CharSequence text) throws NumberFormatException {
+		int end = text.length();
+		DecimalAccumulator accumulator = new DecimalAccumulator();
+		if (!Grammar.isFinite(parseWords(text, 0, end, new ParsePosition(0), accumulator))) {
+			throw new NumberFormatException("Unrecognized transcription: " + text);
 		}
-		if (text.equals("zero")) {
-			return 0;
+		BigDecimal parsedValue = accumulator.bigDecimalValue();
+		return isNegative(text, 0, end) ? parsedValue.negate() : parsedValue;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @implNote The value is computed in integer arithmetic; a value out of the range of a long is detected as soon as
+	 *           the group that makes it overflow is read.
+	 */
+	@Override
+	public long parseLong(CharSequence text) throws NumberFormatException {
+		int end = text.length();
+		LongGroupAccumulator accumulator = new LongGroupAccumulator();
+		boolean negative = isNegative(text, 0, end);
+		/* The opposite of the least long is out of range */
+		if (!Grammar.isIntegral(parseWords(text, 0, end, new ParsePosition(0), accumulator))
+		    || !negative && accumulator.negatedValue == Long.MIN_VALUE) {
+			throw new NumberFormatException("Unrecognized integer transcription: " + text);
 		}
-		double parsedValue = 0;
-		Iterator<String> wordIterator = iterate(text);
-		double previousWordValue = -1;
-		while (wordIterator.hasNext()) {
-			String word = wordIterator.next();
-			if (word.equals("point")) {
-				/* Decimal separator found; end of the integral part */
-				if (!wordIterator.hasNext()) {
-					/* Trailing decimal separator: not accepted */
-					throw error(text);
-				}
-				break;
+		return negative ? accumulator.negatedValue : -accumulator.negatedValue;
+	}
+
+	/* Parse the words of the text region along the grammar, and feed the groups of the integral part and the digits
+	 * of the decimal part to the accumulator. Return the state of the grammar reached at the end of the region, or
+	 * FAILED after setting the error index of the position */
+	private static int parseWords(CharSequence text, int start, int end, ParsePosition position,
+	                              GroupAccumulator accumulator) {
+		int state = Grammar.START;
+		int groupValue = 0;
+		/* The scales must be in decreasing order */
+		int previousScale = Integer.MAX_VALUE;
+		/* The words are read in place, delimited by single spaces. An empty text is a single empty word */
+		int wordStart = start;
+		for (;;) {
+			long word = UsEnglishLexicon.scan(text, wordStart, end);
+			int entry = (int) word;
+			int kind = UsEnglishLexicon.kind(entry);
+			int value = UsEnglishLexicon.value(entry);
+			int nextState = Grammar.TRANSITIONS[state * UsEnglishLexicon.KINDS_COUNT + kind];
+			if (nextState == Grammar.FAILED) {
+				return fail(position, wordStart);
 			}
-			if (word.equals("hundred")) {
-				if (previousWordValue < 0 || previousWordValue >= 10) {
-					throw error(text);
-				}
-				previousWordValue *= 100;
-			} else if (word.equals("thousand")) {
-				if (previousWordValue < 0) {
-					throw error(text);
+			switch (kind) {
+			case UsEnglishLexicon.ZERO:
+			case UsEnglishLexicon.UNIT:
+			case UsEnglishLexicon.TEEN:
+			case UsEnglishLexicon.TENS:
+				if (nextState == Grammar.DECIMAL_READ) {
+					if (!accumulator.addDecimal(value)) {
+						return fail(position, wordStart);
+					}
+				} else {
+					groupValue = state == Grammar.HUNDRED_READ ? groupValue + value : value;
 				}
-				parsedValue += 1000 * previousWordValue;
-				previousWordValue = -1;
-			} else if (word.endsWith("illion")) {
-				if (previousWordValue < 0) {
-					throw error(text);
+				break;
+			case UsEnglishLexicon.HUNDRED:
+				groupValue *= 100;
+				break;
+			case UsEnglishLexicon.SCALE:
+				if (value >= previousScale || !accumulator.add(groupValue, value)) {
+					return fail(position, wordStart);
 				}
-				int thousandsRank = parseThousandsRank(word);
-				parsedValue += Math.pow(1000, thousandsRank) * previousWordValue;
-				/* Word group processed entirely. Reset value to be able to detect invalid transcriptions */
-				previousWordValue = -1;
-			} else if (previousWordValue >= 100) {
-				/* The current word group is in the hundreds */
-				previousWordValue += processWord(word);
-			} else {
-				if (previousWordValue >= 0) {
-					/* There is an unfinished word group, but there shouldn't be */
-					throw error(text);
+				/* Word group processed entirely */
+				groupValue = 0;
+				previousScale = value;
+				break;
+			case UsEnglishLexicon.POINT:
+				/* Decimal separator found; end of the integral part */
+				if (!accumulator.add(groupValue, 0)) {
+					return fail(position, wordStart);
 				}
-				previousWordValue = processWord(word);
+				break;
+			default:
+				/* The other words have no value */
+			}
+			state = nextState;
+			int wordEnd = (int) (word >>> 32);
+			if (wordEnd == end) {
+				break;
 			}
+			wordStart = wordEnd + 1;
 		}
-		if (previousWordValue > 0) {
-			parsedValue += previousWordValue;
+		/* The words read can be the beginning of a transcription */
+		if (!Grammar.ACCEPTING[state] || Grammar.isIntegral(state) && !accumulator.add(groupValue, 0)) {
+			return fail(position, end);
 		}
-		if (wordIterator.hasNext()) {
-			/* We stopped before the end: decimal separator found */
-			parsedValue += parseDecimalPart(wordIterator);
+		return state;
+	}
+
+	/* Report an error at the given index of the text; return FAILED for convenience */
+	private static int fail(ParsePosition position, int errorIndex) {
+		position.setErrorIndex(errorIndex);
+		return Grammar.FAILED;
+	}
+
+	/* Whether the transcription in the text region, that is valid, is that of a negative number */
+	private static boolean isNegative(CharSequence text, int start, int end) {
+		return regionStartsWith(text, start, end, "minus ");
+	}
+
+	/* Computes the value of a number from its groups of three digits, then from the digits of its decimal part */
+	private interface GroupAccumulator {
+		/* Add the given group, of the given rank. The groups are added by decreasing rank; return false if the value
+		 * cannot be represented */
+		boolean add(int group, int rank);
+
+		/* Add the given digit of the decimal part, once the integral part has been added entirely; return false if the
+		 * value cannot be represented */
+		default boolean addDecimal(int digit) {
+			return false;
 		}
-		return parsedValue;
 	}
 
-	/* Prerequisite: text != null; it can be empty, in which case a single empty word is yielded */
-	private static Iterator<String> iterate(String text) {
-		return new Iterator<String>() {
-			private int currentWordIndex = 0;
+	/* Accepts all the values: the transcriptions are only validated */
+	private static final GroupAccumulator VALIDATOR = new GroupAccumulator() {
+		@Override
+		public boolean add(int group, int rank) {
+			return true;
+		}
 
+		@Override
+		public boolean addDecimal(int digit) {
+			return true;
+		}
+	};
 
-			@Override
-			public String next() {
-				int nextWordIndex = text.indexOf(' ', currentWordIndex + 1);
-				String word;
-				if (nextWordIndex < 0) {
-					word = text.substring(currentWordIndex);
-					currentWordIndex = -1;
-				} else {
-					word = text.substring(currentWordIndex, nextWordIndex);
-					currentWordIndex = nextWordIndex + 1;
-				}
-				return word;
-			}
+	/* Computes the value of a number exactly from its groups, then from its decimal digits: in a long while it fits,
+	 * in limbs of nine decimal digits beyond */
+	private static final class DecimalAccumulator implements GroupAccumulator {
+		/* The powers of ten exactly representable as doubles */
+		private static final double[] EXACT_POWERS_OF_TEN = {
+			1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18,
+			1e19, 1e20, 1e21, 1e22
+		};
+		/* The powers of ten in the range of a long */
+		private static final long[] LONG_POWERS_OF_TEN = {
+			1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+			10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+			1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+		};
+		/* The greatest long below which all the integers are exactly representable as doubles */
+		private static final long MAX_EXACT_DOUBLE = 1L << 53;
+		/* The count of digits of a limb, and its base */
+		private static final int LIMB_DIGITS_COUNT = 9;
+		private static final long LIMB_BASE = 1_000_000_000L;
+		/* The count of bits of the quotients rounded to doubles: the precision of a double, a rounding bit and at least
+		 * one sticky bit */
+		private static final int QUOTIENT_BITS_COUNT = 56;
+		/* The greatest exponent of the scaling of the quotients, for which the two bits below the unit in the last
+		 * place of the subnormal doubles are the rounding and sticky bits */
+		private static final int MAX_SCALING_EXPONENT = 1076;
+
+		/* The digits read, as an integer; only significant while limbs is null */
+		private long significand = 0;
+		/* The digits read, once too many to fit in a long: the full limbs, most significant first, then the tail */
+		private long[] limbs = null;
+		private int limbsCount = 0;
+		/* The last digits read, fewer than in a limb, as an integer */
+		private long tail = 0;
+		private int tailDigitsCount = 0;
+		/* The rank of the last group added; the groups of the ranks in between are zero */
+		private int rank = -1;
+		/* The count of digits of the decimal part read */
+		private int decimalsCount = 0;
 
-			@Override
-			public boolean hasNext() {
-				return currentWordIndex >= 0;
+		@Override
+		public boolean add(int group, int rank) {
+			if (this.rank < 0) {
+				significand = group;
+			} else {
+				shiftLeft(3 * (this.rank - rank), group);
 			}
-		};
-	}
+			this.rank = rank;
+			return true;
+		}
 
-	private static NumberFormatException error(String text) {
-		return new NumberFormatException("Unrecognized transcription: " + text);
-	}
+		@Override
+		public boolean addDecimal(int digit) {
+			shiftLeft(1, digit);
+			++decimalsCount;
+			return true;
+		}
 
-	/* Prerequisite: rankName ends in illion */
-	private static int parseThousandsRank(String rankName) {
-		String prefix = removeSuffix(rankName, "illion");
-		int rank = ZILLION_PREFIXES.indexOf(prefix);
-		if (rank < 0) {
-			throw error(rankName);
+		/* Append the given count of digits, all zeros except for the value of the last ones */
+		private void shiftLeft(int digitsCount, long value) {
+			if (limbs == null) {
+				if (digitsCount < LONG_POWERS_OF_TEN.length) {
+					long factor = LONG_POWERS_OF_TEN[digitsCount];
+					if (significand <= (Long.MAX_VALUE - value) / factor) {
+						significand = significand * factor + value;
+						return;
+					}
+				}
+				/* Spill the significand to the limbs, as nineteen digits: the leading zeros are harmless */
+				limbs = new long[8];
+				appendDigits(LONG_POWERS_OF_TEN.length, significand);
+			}
+			appendDigits(digitsCount, value);
 		}
-		return rank + 2;
-	}
 
-	/* Prerequisite: word ends in suffix */
-	private static String removeSuffix(String word, String suffix) {
-		return word.substring(0, word.length() - suffix.length());
-	}
+		/* Prerequisite: value < 10^digitsCount */
+		private void appendDigits(int digitsCount, long value) {
+			while (digitsCount > 0) {
+				/* The leading digits of the remaining ones that complete the tail, or all of them */
+				int appendedCount = Math.min(digitsCount, LIMB_DIGITS_COUNT - tailDigitsCount);
+				digitsCount -= appendedCount;
+				long appendedDigits = digitsCount < LONG_POWERS_OF_TEN.length
+				                      ? value / LONG_POWERS_OF_TEN[digitsCount] % LONG_POWERS_OF_TEN[appendedCount] : 0;
+				tail = tail * LONG_POWERS_OF_TEN[appendedCount] + appendedDigits;
+				tailDigitsCount += appendedCount;
+				if (tailDigitsCount == LIMB_DIGITS_COUNT) {
+					if (limbsCount == limbs.length) {
+						limbs = Arrays.copyOf(limbs, 2 * limbsCount);
+					}
+					limbs[limbsCount++] = tail;
+					tail = 0;
+					tailDigitsCount = 0;
+				}
+			}
+		}
 
-	private static double processWord(String word) throws NumberFormatException {
-		int digit = DIGITS.indexOf(word);
-		if (digit >= 0) {
-			return digit + 1;
+		/* Return the value, correctly rounded to the nearest double */
+		double doubleValue() {
+			if (limbs == null) {
+				if (decimalsCount == 0) {
+					/* The conversion of a long is correctly rounded */
+					return significand;
+				}
+				if (significand < MAX_EXACT_DOUBLE && decimalsCount < EXACT_POWERS_OF_TEN.length) {
+					/* Both operands are exact: the division is correctly rounded */
+					return significand / EXACT_POWERS_OF_TEN[decimalsCount];
+				}
+			}
+			BigInteger digits = unscaledValue();
+			if (decimalsCount == 0) {
+				/* The conversion of a big integer is correctly rounded */
+				return digits.doubleValue();
+			}
+			return divide(digits, BigInteger.TEN.pow(decimalsCount));
 		}
-		digit = LOW_NUMBERS.indexOf(word);
-		if (digit >= 0) {
-			return digit + 10;
+
+		/* Return the exact value; its scale is the count of digits of the decimal part */
+		BigDecimal bigDecimalValue() {
+			if (limbs == null) {
+				return BigDecimal.valueOf(significand, decimalsCount);
+			}
+			return new BigDecimal(unscaledValue(), decimalsCount);
 		}
-		if (word.endsWith("teen")) {
-			String prefix = removeSuffix(word, "teen");
-			digit = TEEN_PREFIXES.indexOf(prefix);
-			if (digit < 0) {
-				throw error(word);
+
+		/* Return the digits read, as an integer */
+		private BigInteger unscaledValue() {
+			if (limbs == null) {
+				return BigInteger.valueOf(significand);
+			}
+			/* Converted to base 2^32, least significant word first: a limb holds less than 30 bits */
+			int[] words = new int[limbsCount + 1];
+			int wordsCount = 0;
+			for (int i = 0; i <= limbsCount; ++i) {
+				long base = i < limbsCount ? LIMB_BASE : LONG_POWERS_OF_TEN[tailDigitsCount];
+				long carry = i < limbsCount ? limbs[i] : tail;
+				for (int j = 0; j < wordsCount; ++j) {
+					long product = (words[j] & 0xffff_ffffL) * base + carry;
+					words[j] = (int) product;
+					carry = product >>> 32;
+				}
+				if (carry != 0) {
+					words[wordsCount++] = (int) carry;
+				}
 			}
-			return digit + 13;
+			byte[] magnitude = new byte[4 * wordsCount];
+			for (int j = 0; j < wordsCount; ++j) {
+				int word = words[wordsCount - 1 - j];
+				magnitude[4 * j] = (byte) (word >>> 24);
+				magnitude[4 * j + 1] = (byte) (word >>> 16);
+				magnitude[4 * j + 2] = (byte) (word >>> 8);
+				magnitude[4 * j + 3] = (byte) word;
+			}
+			return new BigInteger(1, magnitude);
 		}
-		if (word.endsWith("ty")) {
-			String prefix = removeSuffix(word, "ty");
-			digit = TY_PREFIXES.indexOf(prefix);
-			if (digit < 0) {
-				throw error(word);
+
+		/* Return the quotient of the given integers, correctly rounded to the nearest double. The quotient is computed
+		 * in integers scaled by a power of two to hold a few more bits than a double, the lowest one set if the
+		 * division is inexact; only its conversion to a double, or to a subnormal one, rounds it */
+		private static double divide(BigInteger dividend, BigInteger divisor) {
+			if (dividend.signum() == 0) {
+				return 0.;
 			}
-			return 10. * (digit + 2);
+			int exponent = Math.min(QUOTIENT_BITS_COUNT - dividend.bitLength() + divisor.bitLength(),
+			                        MAX_SCALING_EXPONENT);
+			BigInteger[] quotientAndRemainder = exponent >= 0
+			                                    ? dividend.shiftLeft(exponent).divideAndRemainder(divisor)
+			                                    : dividend.divideAndRemainder(divisor.shiftLeft(-exponent));
+			BigInteger quotient = quotientAndRemainder[0];
+			if (quotientAndRemainder[1].signum() != 0) {
+				quotient = quotient.setBit(0);
+			}
+			return Math.scalb(quotient.doubleValue(), -exponent);
 		}
-		int compositionIndex = word.indexOf("ty-");
-		if (compositionIndex > 0) {
-			String ten = word.substring(0, compositionIndex);
-			String unit = word.substring(compositionIndex + "ty-".length());
-			int tenDigit = TY_PREFIXES.indexOf(ten);
-			int unitDigit = DIGITS.indexOf(unit);
-			if (tenDigit < 0 || unitDigit < 0) {
-				throw error(word);
+	}
+
+	/* Computes the integral part exactly, as a long */
+	private static final class LongGroupAccumulator implements GroupAccumulator {
+		/* The opposite of the value, which can be computed for all the longs, down to the least */
+		long negatedValue = 0;
+
+		@Override
+		public boolean add(int group, int rank) {
+			if (rank >= ThousandGroups.POWERS_OF_THOUSAND.length
+			    || group > Long.MAX_VALUE / ThousandGroups.POWERS_OF_THOUSAND[rank]) {
+				return false;
 			}
-			return 10. * (tenDigit + 2) + unitDigit + 1;
+			long groupValue = group * ThousandGroups.POWERS_OF_THOUSAND[rank];
+			if (negatedValue < Long.MIN_VALUE + groupValue) {
+				return false;
+			}
+			negatedValue -= groupValue;
+			return true;
 		}
-		throw error(word);
 	}
 
-	private static double parseDecimalPart(Iterator<String> wordIterator) {
-		/* Accumulate all decimals as integrals to avoid rounding issues */
-		double acc = 0;
-		int decimalsCount = 0;
-		while (wordIterator.hasNext()) {
-			String word = wordIterator.next();
-			++decimalsCount;
-			int digit = DIGITS.indexOf(word);
-			if (digit < 0) {
-				throw error(word);
+	/* Whether the text region begins with the given string */
+	private static boolean regionStartsWith(CharSequence text, int start, int end, String prefix) {
+		return end - start >= prefix.length() && regionMatches(text, start, prefix);
+	}
+
+	/* Prerequisite: offset + string.length() <= text.length() */
+	private static boolean regionMatches(CharSequence text, int offset, String string) {
+		for (int i = 0; i < string.length(); ++i) {
+			if (text.charAt(offset + i) != string.charAt(i)) {
+				return false;
 			}
-			acc = 10 * acc + digit + 1;
 		}
-		/* Push everything down in the decimals */
-		return acc / Math.pow(10, decimalsCount);
+		return true;
+	}
+
+	/* The grammar of the transcriptions, compiled in an automaton over the kinds of the words */
+	private static final class Grammar {
+		/* The states in the integral part of a number, that precede the others */
+		/* No word read yet */
+		static final int START = 0;
+		/* The word zero read; it can only be followed by the decimal part */
+		static final int ZERO_READ = 1;
+		/* A unit read, that can be followed by hundred */
+		static final int UNIT_READ = 2;
+		/* A number of hundreds read, that can be followed by a lower number */
+		static final int HUNDRED_READ = 3;
+		/* A group of three digits complete, that can only be followed by a scale name */
+		static final int GROUP_READ = 4;
+		/* A scale name read, that must be followed by a lower group */
+		static final int SCALE_READ = 5;
+		/* The word minus read, that must be followed by a number */
+		static final int MINUS_READ = 6;
+		/* The word point read, that must be followed by a digit */
+		static final int POINT_READ = 7;
+		/* A digit of the decimal part read */
+		static final int DECIMAL_READ = 8;
+		/* The word infinity read, that ends the transcription */
+		static final int INFINITY_READ = 9;
+		/* The words not, not a and not a number read */
+		static final int NOT_READ = 10;
+		static final int NOT_A_READ = 11;
+		static final int NOT_A_NUMBER_READ = 12;
+		/* The sink of the invalid transcriptions */
+		static final int FAILED = 13;
+		private static final int STATES_COUNT = 14;
+
+		/* The state reached from each state by each kind of word, at state * KINDS_COUNT + kind */
+		static final int[] TRANSITIONS = new int[STATES_COUNT * UsEnglishLexicon.KINDS_COUNT];
+		/* Whether a transcription can end in each state */
+		static final boolean[] ACCEPTING = new boolean[STATES_COUNT];
+
+		static {
+			Arrays.fill(TRANSITIONS, FAILED);
+			for (int state : new int[] {START, MINUS_READ}) {
+				add(state, UsEnglishLexicon.ZERO, ZERO_READ);
+				add(state, UsEnglishLexicon.UNIT, UNIT_READ);
+				add(state, UsEnglishLexicon.TEEN, GROUP_READ);
+				add(state, UsEnglishLexicon.TENS, GROUP_READ);
+				add(state, UsEnglishLexicon.INFINITY, INFINITY_READ);
+			}
+			add(START, UsEnglishLexicon.MINUS, MINUS_READ);
+			add(START, UsEnglishLexicon.NOT, NOT_READ);
+			add(NOT_READ, UsEnglishLexicon.A, NOT_A_READ);
+			add(NOT_A_READ, UsEnglishLexicon.NUMBER, NOT_A_NUMBER_READ);
+			add(UNIT_READ, UsEnglishLexicon.HUNDRED, HUNDRED_READ);
+			add(HUNDRED_READ, UsEnglishLexicon.UNIT, GROUP_READ);
+			add(HUNDRED_READ, UsEnglishLexicon.TEEN, GROUP_READ);
+			add(HUNDRED_READ, UsEnglishLexicon.TENS, GROUP_READ);
+			add(SCALE_READ, UsEnglishLexicon.UNIT, UNIT_READ);
+			add(SCALE_READ, UsEnglishLexicon.TEEN, GROUP_READ);
+			add(SCALE_READ, UsEnglishLexicon.TENS, GROUP_READ);
+			for (int state : new int[] {UNIT_READ, HUNDRED_READ, GROUP_READ}) {
+				add(state, UsEnglishLexicon.SCALE, SCALE_READ);
+			}
+			for (int state : new int[] {ZERO_READ, UNIT_READ, HUNDRED_READ, GROUP_READ, SCALE_READ}) {
+				add(state, UsEnglishLexicon.POINT, POINT_READ);
+				ACCEPTING[state] = true;
+			}
+			for (int state : new int[] {POINT_READ, DECIMAL_READ}) {
+				add(state, UsEnglishLexicon.ZERO, DECIMAL_READ);
+				add(state, UsEnglishLexicon.UNIT, DECIMAL_READ);
+			}
+			ACCEPTING[DECIMAL_READ] = true;
+			ACCEPTING[INFINITY_READ] = true;
+			ACCEPTING[NOT_A_NUMBER_READ] = true;
+		}
+
+
+		private Grammar() {}
+
+		/* Whether the state is one of the integral part of a number */
+		static boolean isIntegral(int state) {
+			return state <= SCALE_READ;
+		}
+
+		/* Whether the state is one of a finite number */
+		static boolean isFinite(int state) {
+			return isIntegral(state) || state == DECIMAL_READ;
+		}
+
+		private static void add(int state, int kind, int targetState) {
+			TRANSITIONS[state * UsEnglishLexicon.KINDS_COUNT + kind] = targetState;
+		}
 	}
 }
@@ -0,0 +1,85 @@
+package io.github.moonstroke.spelledoutnumbers.test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.github.moonstroke.spelledoutnumbers.AsyncNumberService;
+import io.github.moonstroke.spelledoutnumbers.NumberSpeller;
+import io.github.moonstroke.spelledoutnumbers.NumericTextParser;
+
+class AsyncNumberServiceTest {
+	/* The tasks submitted, run only when the test says so */
+	private final Queue<Runnable> tasks = new ArrayDeque<>();
+	private NumberSpeller speller;
+	private NumericTextParser parser;
+	private AsyncNumberService service;
+
+
+	@BeforeEach
+	void setUp() {
+		speller = NumberSpeller.getNumberSpellerFor(Locale.US);
+		parser = NumericTextParser.getTextParserFor(Locale.US);
+		service = new AsyncNumberService(speller, parser, tasks::add);
+	}
+
+	@Test
+	void testConcurrentRequestsAreCoalesced() throws InterruptedException, ExecutionException {
+		CompletableFuture<String> first = service.spellOut(42);
+		CompletableFuture<String> second = service.spellOut(42);
+		CompletableFuture<String> other = service.spellOut(-0.);
+		assertEquals(2, tasks.size());
+		/* Completing a copy does not affect the others */
+		first.complete("forty-three");
+		tasks.remove().run();
+		assertEquals("forty-two", second.get());
+		assertFalse(other.isDone());
+		tasks.remove().run();
+		assertEquals("zero", other.get());
+		/* The computation is over: a new request starts a new one */
+		service.spellOut(42);
+		assertEquals(1, tasks.size());
+	}
+
+	@Test
+	void testParsingErrorsCompleteExceptionally() {
+		CompletableFuture<Double> first = service.parse("forty two");
+		CompletableFuture<Double> second = service.parse("forty two");
+		tasks.remove().run();
+		ExecutionException e = assertThrows(ExecutionException.class, first::get);
+		assertTrue(e.getCause() instanceof NumberFormatException);
+		assertTrue(second.isCompletedExceptionally());
+	}
+
+	@Test
+	void testRejectedRequestsCompleteExceptionally() throws InterruptedException, ExecutionException {
+		AsyncNumberService rejectingService = new AsyncNumberService(speller, parser, task -> {
+			throw new RejectedExecutionException();
+		});
+		ExecutionException e = assertThrows(ExecutionException.class, rejectingService.parse("one")::get);
+		assertTrue(e.getCause() instanceof RejectedExecutionException);
+		/* The default executor accepts the work */
+		assertEquals(1., new AsyncNumberService(speller, parser).parse("one").get());
+	}
+
+	@Test
+	void testExecutorFailuresCompleteExceptionally() {
+		AsyncNumberService failingService = new AsyncNumberService(speller, parser, task -> {
+			throw new IllegalStateException("Closed");
+		});
+		for (int i = 0; i < 2; ++i) {
+			/* The failure of the first request is not shared by the next one: each one submits anew */
+			CompletableFuture<String> future = failingService.spellOut(1);
+			ExecutionException e = assertThrows(ExecutionException.class, future::get);
+			assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+	}
+}
@@ -0,0 +1,86 @@
+package io.github.moonstroke.spelledoutnumbers.test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.moonstroke.spelledoutnumbers.NumberSpeller;
+import io.github.moonstroke.spelledoutnumbers.NumericTextParser;
+
+class LocalizedNumberServiceRegistryTest {
+	@Test
+	void testRegisteredSpellerIsFound() {
+		Locale locale = Locale.forLanguageTag("en-x-reg");
+		assertNull(NumberSpeller.getNumberSpellerFor(locale));
+		NumberSpeller speller = new StubNumberSpeller(locale);
+		NumberSpeller.registerNumberSpeller(speller);
+		assertSame(speller, NumberSpeller.getNumberSpellerFor(locale));
+		/* Reloading keeps the registered spellers */
+		NumberSpeller.reloadNumberSpellers();
+		assertSame(speller, NumberSpeller.getNumberSpellerFor(locale));
+	}
+
+	@Test
+	void testRegisteredServicesTakePrecedence() {
+		NumberSpeller discoveredSpeller = NumberSpeller.getNumberSpellerFor(Locale.US);
+		NumericTextParser discoveredParser = NumericTextParser.getTextParserFor(Locale.US);
+		NumberSpeller speller = new StubNumberSpeller(Locale.US);
+		NumericTextParser parser = new StubTextParser(Locale.US);
+		try {
+			NumberSpeller.registerNumberSpeller(speller);
+			NumericTextParser.registerTextParser(parser);
+			NumberSpeller.reloadNumberSpellers();
+			NumericTextParser.reloadTextParsers();
+			assertSame(speller, NumberSpeller.getNumberSpellerFor(Locale.US));
+			assertSame(parser, NumericTextParser.getTextParserFor(Locale.US));
+		} finally {
+			/* The discovered services, registered back, are found again */
+			NumberSpeller.registerNumberSpeller(discoveredSpeller);
+			NumericTextParser.registerTextParser(discoveredParser);
+		}
+		assertSame(discoveredSpeller, NumberSpeller.getNumberSpellerFor(Locale.US));
+		assertSame(discoveredParser, NumericTextParser.getTextParserFor(Locale.US));
+	}
+
+	@Test
+	void testServiceWithoutLocaleIsRejected() {
+		NumberSpeller speller = new StubNumberSpeller(null);
+		NumericTextParser parser = new StubTextParser(null);
+		assertThrows(NullPointerException.class, () -> NumberSpeller.registerNumberSpeller(speller));
+		assertThrows(NullPointerException.class, () -> NumericTextParser.registerTextParser(parser));
+		/* The registries are left untouched */
+		Locale locale = Locale.forLanguageTag("en-x-rej");
+		NumberSpeller.registerNumberSpeller(new StubNumberSpeller(locale));
+		NumberSpeller.reloadNumberSpellers();
+		assertNotNull(NumberSpeller.getNumberSpellerFor(locale));
+		assertNotNull(NumberSpeller.getNumberSpellerFor(Locale.US));
+	}
+
+	@Test
+	void testNullLocaleHasNoService() {
+		assertNull(NumberSpeller.getNumberSpellerFor(null));
+		assertNull(NumericTextParser.getTextParserFor(null));
+	}
+
+
+	private static final class StubTextParser implements NumericTextParser {
+		private final Locale locale;
+
+
+		StubTextParser(Locale locale) {
+			this.locale = locale;
+		}
+
+		@Override
+		public Locale getSupportedLocale() {
+			return locale;
+		}
+
+		@Override
+		public double parse(String text) {
+			return Double.parseDouble(text);
+		}
+	}
+}
@@ -0,0 +1,152 @@
+package io.github.moonstroke.spelledoutnumbers.test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.moonstroke.spelledoutnumbers.NumberSpeller;
+import io.github.moonstroke.spelledoutnumbers.NumberSpellingProcessor;
+import io.github.moonstroke.spelledoutnumbers.NumericTextParser;
+import io.github.moonstroke.spelledoutnumbers.NumericTextParsingProcessor;
+
+class ProcessorTest {
+	@Test
+	void testSpellingProcessorHonorsBurstyDemand() {
+		NumberSpeller speller = NumberSpeller.getNumberSpellerFor(Locale.US);
+		List<String> expected = new ArrayList<>();
+		Double[] values = new Double[50_000];
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = i * 1e6 / 3;
+			expected.add(speller.spellOut(values[i]));
+		}
+		NumberSpellingProcessor processor = new NumberSpellingProcessor(speller, 64);
+		BurstySubscriber<String> subscriber = new BurstySubscriber<>();
+		processor.subscribe(subscriber);
+		assertTimeoutPreemptively(Duration.ofSeconds(60), () -> {
+			publish(values, processor);
+			subscriber.requestInBursts();
+		});
+		assertNull(subscriber.failure);
+		assertEquals(expected, subscriber.items);
+	}
+
+	@Test
+	void testParsingProcessorSendsErrorsAside() {
+		NumericTextParser parser = NumericTextParser.getTextParserFor(Locale.US);
+		String[] texts = {"one", "two and a half", "minus three", "", "four point five", "five five"};
+		List<String> failedTexts = new ArrayList<>();
+		NumericTextParsingProcessor processor = new NumericTextParsingProcessor(parser, (text, e) -> {
+			assertNotNull(e);
+			failedTexts.add(text.toString());
+		});
+		BurstySubscriber<Double> subscriber = new BurstySubscriber<>();
+		processor.subscribe(subscriber);
+		assertTimeoutPreemptively(Duration.ofSeconds(60), () -> {
+			publish(texts, processor);
+			subscriber.requestInBursts();
+		});
+		assertNull(subscriber.failure);
+		assertEquals(List.of(1., -3., 4.5), subscriber.items);
+		assertEquals(List.of("two and a half", "", "five five"), failedTexts);
+	}
+
+	@Test
+	void testProcessorSignalsInvalidRequests() throws InterruptedException {
+		NumberSpellingProcessor processor = new NumberSpellingProcessor(NumberSpeller.getNumberSpellerFor(Locale.US));
+		BurstySubscriber<String> subscriber = new BurstySubscriber<>();
+		processor.subscribe(subscriber);
+		subscriber.subscription.request(0);
+		assertTrue(subscriber.terminated.await(10, TimeUnit.SECONDS));
+		assertTrue(subscriber.failure instanceof IllegalArgumentException);
+	}
+
+	@Test
+	void testProcessorRejectsSecondSubscriber() throws InterruptedException {
+		NumberSpellingProcessor processor = new NumberSpellingProcessor(NumberSpeller.getNumberSpellerFor(Locale.US));
+		processor.subscribe(new BurstySubscriber<>());
+		BurstySubscriber<String> subscriber = new BurstySubscriber<>();
+		processor.subscribe(subscriber);
+		assertTrue(subscriber.terminated.await(10, TimeUnit.SECONDS));
+		assertTrue(subscriber.failure instanceof IllegalStateException);
+	}
+
+	/* Submit the items to the processor from another thread, blocking when it does not request them */
+	private static <T> void publish(T[] items, Flow.Subscriber<? super T> processor) {
+		Thread publisherThread = new Thread(() -> {
+			try (SubmissionPublisher<T> publisher = new SubmissionPublisher<>()) {
+				publisher.subscribe(processor);
+				for (T item : items) {
+					publisher.submit(item);
+				}
+			}
+		});
+		publisherThread.start();
+	}
+
+
+	/* Requests its items by bursts of random sizes, only once the previous burst is delivered, and checks that it never
+	 * receives more than requested */
+	private static final class BurstySubscriber<T> implements Flow.Subscriber<T> {
+		private static final long[] BURST_SIZES = {1, 3, 64, 100, 1000, 5000};
+
+		final List<T> items = new ArrayList<>();
+		final CountDownLatch terminated = new CountDownLatch(1);
+		volatile Flow.Subscription subscription;
+		volatile Throwable failure;
+		private final AtomicLong outstanding = new AtomicLong();
+
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(T item) {
+			if (outstanding.decrementAndGet() < 0) {
+				failure = new AssertionError("Item received beyond the demand: " + item);
+			}
+			items.add(item);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			failure = throwable;
+			terminated.countDown();
+		}
+
+		@Override
+		public void onComplete() {
+			terminated.countDown();
+		}
+
+		void requestInBursts() throws InterruptedException {
+			SplittableRandom random = new SplittableRandom(0);
+			while (terminated.getCount() > 0) {
+				if (outstanding.get() == 0) {
+					if (random.nextInt(4) == 0) {
+						/* A pause between the bursts */
+						Thread.sleep(1);
+					}
+					long burstSize = BURST_SIZES[random.nextInt(BURST_SIZES.length)];
+					outstanding.addAndGet(burstSize);
+					subscription.request(burstSize);
+				} else {
+					LockSupport.parkNanos(10_000);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package io.github.moonstroke.spelledoutnumbers.test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.moonstroke.spelledoutnumbers.SpelledOutNumber;
+import io.github.moonstroke.spelledoutnumbers.SpelledOutNumberMap;
+
+class SpelledOutNumberMapTest {
+	@Test
+	void testPutAndGet() {
+		SpelledOutNumberMap map = new SpelledOutNumberMap();
+		assertNull(map.put(Locale.US, 42, "forty-two"));
+		assertEquals("forty-two", map.put(Locale.US, 42, "forty two"));
+		assertEquals("forty two", map.get(Locale.US, 42));
+		assertNull(map.get(Locale.UK, 42));
+		assertEquals(1, map.size());
+	}
+
+	@Test
+	void testValuesAreComparedBitwise() {
+		SpelledOutNumberMap map = new SpelledOutNumberMap();
+		map.put(Locale.US, 0., "zero");
+		assertFalse(map.containsKey(Locale.US, -0.));
+		map.put(Locale.US, Double.NaN, "not a number");
+		assertEquals("not a number", map.get(Locale.US, Double.longBitsToDouble(0x7ff8000000000001L)));
+	}
+
+	@Test
+	void testMapGrowsAndRemoves() {
+		SpelledOutNumberMap map = new SpelledOutNumberMap();
+		for (int i = 0; i < 10_000; ++i) {
+			map.put(new SpelledOutNumber(Locale.US, i));
+		}
+		assertEquals(10_000, map.size());
+		for (int i = 0; i < 10_000; i += 2) {
+			assertNotNull(map.remove(Locale.US, i));
+		}
+		assertEquals(5_000, map.size());
+		for (int i = 0; i < 10_000; ++i) {
+			assertEquals(i % 2 == 0 ? null : new SpelledOutNumber(Locale.US, i).toString(), map.get(Locale.US, i));
+		}
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertNull(map.get(Locale.US, 1));
+	}
+}
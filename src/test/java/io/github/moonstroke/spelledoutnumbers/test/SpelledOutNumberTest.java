@@ -0,0 +1,260 @@
+package io.github.moonstroke.spelledoutnumbers.test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.github.moonstroke.spelledoutnumbers.CacheStatistics;
+import io.github.moonstroke.spelledoutnumbers.SpelledOutNumber;
+import io.github.moonstroke.spelledoutnumbers.SpelledOutNumberCodec;
+
+class SpelledOutNumberTest {
+	@AfterEach
+	void tearDown() {
+		SpelledOutNumber.disableCache();
+	}
+
+	@Test
+	void testNumberIsTranscribedOnDemand() {
+		SpelledOutNumber number = new SpelledOutNumber(Locale.US, 42);
+		assertEquals("forty-two", number.toString());
+		/* Decoded from the tokens */
+		assertEquals("forty-two", number.toString());
+	}
+
+	@Test
+	void testNumberIsSerializable() throws IOException, ClassNotFoundException {
+		SpelledOutNumber number = new SpelledOutNumber(Locale.US, "one point five zero");
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+			output.writeObject(number);
+		}
+		try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			SpelledOutNumber readNumber = (SpelledOutNumber) input.readObject();
+			assertEquals(number, readNumber);
+			assertEquals("one point five zero", readNumber.toString());
+		}
+	}
+
+	@Test
+	void testTranscribedNumberIsSerializable() throws IOException, ClassNotFoundException {
+		SpelledOutNumber number = new SpelledOutNumber(Locale.US, -1234.5);
+		number.toString();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+			output.writeObject(number);
+		}
+		try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			SpelledOutNumber readNumber = (SpelledOutNumber) input.readObject();
+			assertEquals(number, readNumber);
+			assertEquals("minus one thousand two hundred thirty-four point five", readNumber.toString());
+		}
+	}
+
+	@Test
+	void testFormerSerializedFormIsRead() throws IOException, ClassNotFoundException {
+		try (ObjectInputStream input = new ObjectInputStream(getClass().getResourceAsStream("/legacy-numbers.ser"))) {
+			SpelledOutNumber number = (SpelledOutNumber) input.readObject();
+			assertEquals(new SpelledOutNumber(Locale.US, -42.5), number);
+			assertEquals("minus forty-two point five", number.toString());
+			assertEquals("one point five", input.readObject().toString());
+		}
+	}
+
+	@Test
+	void testInvalidTokensAreNotRead() throws IOException, ClassNotFoundException {
+		byte[] bytes = serialize(new SpelledOutNumber(Locale.US, "one point five zero"));
+		/* The tokens follow the language tag, the kind of transcription, the identifier of the vocabulary and the
+		 * count of tokens */
+		int vocabularyIdIndex = indexOf(bytes, "en-US".getBytes(StandardCharsets.US_ASCII)) + 5 + 1;
+		int tokensCountIndex = vocabularyIdIndex + 4;
+		assertEquals(4, ByteBuffer.wrap(bytes, tokensCountIndex, 4).getInt());
+		/* Tokens of another vocabulary are dropped, even if the speller can decode them */
+		int vocabularyId = ByteBuffer.wrap(bytes).getInt(vocabularyIdIndex);
+		ByteBuffer.wrap(bytes).putInt(vocabularyIdIndex, vocabularyId + 1);
+		assertEquals("one point five", deserialize(bytes).toString());
+		ByteBuffer.wrap(bytes).putInt(vocabularyIdIndex, vocabularyId);
+		assertEquals("one point five zero", deserialize(bytes).toString());
+		/* Tokens that the speller cannot decode are dropped */
+		ByteBuffer.wrap(bytes).putShort(tokensCountIndex + 4 + 3 * Short.BYTES, (short) -1);
+		assertEquals("one point five", deserialize(bytes).toString());
+		/* The count of tokens is checked before they are allocated */
+		ByteBuffer.wrap(bytes).putInt(tokensCountIndex, Integer.MAX_VALUE);
+		assertThrows(InvalidObjectException.class, () -> deserialize(bytes));
+	}
+
+	private static byte[] serialize(Object object) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+			output.writeObject(object);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+		try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+			return input.readObject();
+		}
+	}
+
+	private static int indexOf(byte[] bytes, byte[] pattern) {
+		for (int i = 0; i <= bytes.length - pattern.length; ++i) {
+			if (Arrays.equals(bytes, i, i + pattern.length, pattern, 0, pattern.length)) {
+				return i;
+			}
+		}
+		throw new AssertionError("Pattern not found");
+	}
+
+	@Test
+	void testCodecRoundTrip() {
+		SpelledOutNumber number = new SpelledOutNumber(Locale.US, "one point five zero");
+		ByteBuffer buffer = ByteBuffer.allocate(64);
+		SpelledOutNumberCodec.encode(number, buffer);
+		assertEquals(SpelledOutNumberCodec.encodedLength(number), buffer.position());
+		buffer.flip();
+		SpelledOutNumber decodedNumber = SpelledOutNumberCodec.decode(buffer);
+		assertFalse(buffer.hasRemaining());
+		assertEquals(number, decodedNumber);
+		/* The transcription is not encoded */
+		assertEquals("one point five", decodedNumber.toString());
+	}
+
+	@Test
+	void testNumberWithoutSpellerIsRejected() {
+		assertThrows(IllegalArgumentException.class,
+		             () -> new SpelledOutNumber(Locale.forLanguageTag("en-x-none"), 1.5));
+	}
+
+	@Test
+	void testCodecArrayRoundTrip() {
+		StubNumberSpeller.registerFor(Locale.UK);
+		SpelledOutNumber[] numbers = {
+			new SpelledOutNumber(Locale.US, 1), new SpelledOutNumber(Locale.UK, -2.5),
+			new SpelledOutNumber(Locale.US, Double.NaN), new SpelledOutNumber(Locale.US, -0.)
+		};
+		ByteBuffer buffer = ByteBuffer.allocate(128);
+		SpelledOutNumberCodec.encode(numbers, buffer);
+		buffer.flip();
+		assertArrayEquals(numbers, SpelledOutNumberCodec.decodeArray(buffer));
+		assertFalse(buffer.hasRemaining());
+	}
+
+	@Test
+	void testCodecEncodesUpTo255Locales() {
+		SpelledOutNumber[] numbers = new SpelledOutNumber[256];
+		for (int i = 0; i < numbers.length; ++i) {
+			Locale locale = Locale.forLanguageTag("en-x-l" + i);
+			StubNumberSpeller.registerFor(locale);
+			numbers[i] = new SpelledOutNumber(locale, i);
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(8192);
+		SpelledOutNumber[] firstNumbers = Arrays.copyOf(numbers, 255);
+		SpelledOutNumberCodec.encode(firstNumbers, buffer);
+		buffer.flip();
+		assertArrayEquals(firstNumbers, SpelledOutNumberCodec.decodeArray(buffer));
+		buffer.clear();
+		assertThrows(IllegalArgumentException.class, () -> SpelledOutNumberCodec.encode(numbers, buffer));
+		assertEquals(0, buffer.position());
+	}
+
+	@Test
+	void testCodecWritesNothingForTooLongTags() {
+		Locale locale = Locale.forLanguageTag("en-x" + "-longtags".repeat(30));
+		StubNumberSpeller.registerFor(locale);
+		SpelledOutNumber[] numbers = {new SpelledOutNumber(Locale.US, 1), new SpelledOutNumber(locale, 2)};
+		ByteBuffer buffer = ByteBuffer.allocate(1024);
+		assertThrows(IllegalArgumentException.class, () -> SpelledOutNumberCodec.encode(numbers, buffer));
+		assertEquals(0, buffer.position());
+		assertThrows(IllegalArgumentException.class, () -> SpelledOutNumberCodec.encode(numbers[1], buffer));
+		assertEquals(0, buffer.position());
+	}
+
+	@Test
+	void testCodecRejectsInvalidCount() {
+		ByteBuffer buffer = ByteBuffer.allocate(16).putInt(Integer.MAX_VALUE).put((byte) 0);
+		buffer.flip();
+		assertThrows(IllegalArgumentException.class, () -> SpelledOutNumberCodec.decodeArray(buffer));
+	}
+
+	@Test
+	void testHashCodesAreSpread() {
+		Set<Integer> lowBits = new HashSet<>();
+		for (int i = 0; i < 1024; ++i) {
+			lowBits.add(new SpelledOutNumber(Locale.US, i).hashCode() & 0xfff);
+		}
+		/* Close to the expected count of distinct buckets, for random hashes */
+		assertTrue(lowBits.size() > 850, () -> lowBits.size() + " distinct buckets");
+	}
+
+	@Test
+	void testTranscriptionIsKept() {
+		assertEquals("one point five zero", new SpelledOutNumber(Locale.US, "one point five zero").toString());
+	}
+
+	@Test
+	void testNumberInOtherLocaleHasSameValue() {
+		SpelledOutNumber number = new SpelledOutNumber(Locale.US, "forty-two").toLocale(Locale.US);
+		assertEquals(42, number.doubleValue());
+		assertEquals("forty-two", number.toString());
+	}
+
+	@Test
+	void testFactoriesDoNotShareInstancesWithoutCache() {
+		assertNotSame(SpelledOutNumber.of(Locale.US, 42), SpelledOutNumber.of(Locale.US, 42));
+		assertNull(SpelledOutNumber.getCacheStatistics());
+	}
+
+	@Test
+	void testCachedFactoriesShareInstances() {
+		SpelledOutNumber.enableCache(100);
+		SpelledOutNumber number = SpelledOutNumber.of(Locale.US, 42);
+		assertSame(number, SpelledOutNumber.of(Locale.US, 42));
+		assertNotSame(number, SpelledOutNumber.of(Locale.US, 43));
+		SpelledOutNumber parsedNumber = SpelledOutNumber.of(Locale.US, "forty-two");
+		assertSame(parsedNumber, SpelledOutNumber.of(Locale.US, "forty-two"));
+		assertEquals(number, parsedNumber);
+		assertSame(number, SpelledOutNumber.of(Locale.US, "forty-two point zero").toLocale(Locale.US));
+		CacheStatistics statistics = SpelledOutNumber.getCacheStatistics();
+		assertEquals(3, statistics.hitCount());
+		assertEquals(4, statistics.missCount());
+		assertEquals(0, statistics.evictionCount());
+	}
+
+	@Test
+	void testCacheDistinguishesSignedZeros() {
+		SpelledOutNumber.enableCache(100);
+		assertNotEquals(SpelledOutNumber.of(Locale.US, 0.), SpelledOutNumber.of(Locale.US, -0.));
+	}
+
+	@Test
+	void testCacheIsBounded() {
+		SpelledOutNumber.enableCache(100);
+		for (int i = 0; i < 1000; ++i) {
+			SpelledOutNumber.of(Locale.US, i);
+		}
+		assertEquals(900, SpelledOutNumber.getCacheStatistics().evictionCount());
+	}
+
+	@Test
+	void testCacheDoesNotStoreInvalidTranscriptions() {
+		SpelledOutNumber.enableCache(100);
+		assertThrows(NumberFormatException.class, () -> SpelledOutNumber.of(Locale.US, "oneteen"));
+		assertThrows(NumberFormatException.class, () -> SpelledOutNumber.of(Locale.US, "oneteen"));
+		assertEquals(0, SpelledOutNumber.getCacheStatistics().hitCount());
+	}
+}
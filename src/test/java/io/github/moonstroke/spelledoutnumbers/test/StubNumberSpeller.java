@@ -0,0 +1,32 @@
+package io.github.moonstroke.spelledoutnumbers.test;
+
+import java.util.Locale;
+
+import io.github.moonstroke.spelledoutnumbers.NumberSpeller;
+
+/* A speller for the locales that have none, transcribing the values as their decimal representation */
+final class StubNumberSpeller implements NumberSpeller {
+	private final Locale locale;
+
+
+	StubNumberSpeller(Locale locale) {
+		this.locale = locale;
+	}
+
+	@Override
+	public Locale getSupportedLocale() {
+		return locale;
+	}
+
+	@Override
+	public String spellOut(double doubleValue) {
+		return Double.toString(doubleValue);
+	}
+
+	/* Register a stub speller for the given locale, unless it has a speller already */
+	static void registerFor(Locale locale) {
+		if (NumberSpeller.getNumberSpellerFor(locale) == null) {
+			NumberSpeller.registerNumberSpeller(new StubNumberSpeller(locale));
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package io.github.moonstroke.spelledoutnumbers.test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import io.github.moonstroke.spelledoutnumbers.impl.UsEnglishNumberExtractor;
+
+class UsEnglishNumberExtractorTest {
+	static UsEnglishNumberExtractor extractor;
+
+
+	@BeforeAll
+	static void setUp() {
+		extractor = new UsEnglishNumberExtractor();
+	}
+
+	/* Format the matches as "offset+length=value" */
+	private static List<String> matches(String text) throws IOException {
+		List<String> matches = new ArrayList<>();
+		extractor.extract(new StringReader(text),
+		                  (offset, length, value) -> matches.add(offset + "+" + length + "=" + value));
+		return matches;
+	}
+
+	@Test
+	void testExtractorFindsNumbersInText() throws IOException {
+		assertEquals(List.of("5+19=21000.0", "51+14=6.5"),
+		             matches("paid twenty-one thousand dollars, for an amount of six point five tons"));
+	}
+
+	@Test
+	void testExtractorFindsLongestTranscriptions() throws IOException {
+		assertEquals(List.of("0+15=102.0", "16+5=3.0"), matches("one hundred two three"));
+	}
+
+	@Test
+	void testExtractorSkipsIncompleteTranscriptions() throws IOException {
+		assertEquals(List.of("0+9=-1.0", "21+6=20.0"), matches("minus one point, and twenty hundred"));
+	}
+
+	@Test
+	void testExtractorFindsNothingInOtherWords() throws IOException {
+		assertEquals(List.of(), matches("someone wrote a tenfold  thousand point"));
+	}
+
+	@Test
+	void testExtractorFindsNothingWithinWords() throws IOException {
+		assertEquals(List.of(), matches("None of them came."));
+		assertEquals(List.of(), matches("Done. Gone."));
+		assertEquals(List.of(), matches("Mark's 2one"));
+		assertEquals(List.of(), matches("caf\u00e9one \ud835\udc28one"));
+		assertEquals(List.of("12+3=1.0"), matches("Mark, one's one"));
+	}
+
+	@Test
+	void testExtractorFindsNothingWithinWordsOfBytes() {
+		byte[] bytes = "caf\u00e9one na\u00efve two".getBytes(StandardCharsets.UTF_8);
+		List<String> matches = new ArrayList<>();
+		extractor.extract(ByteBuffer.wrap(bytes),
+		                  (offset, length, value) -> matches.add(offset + "+" + length + "=" + value));
+		assertEquals(List.of("16+3=2.0"), matches);
+	}
+
+	@Test
+	void testExtractorDiscardsTooLongRuns() throws IOException {
+		/* A run crossing the maximal length, then a word too long to be a number word, then a separator */
+		String longRun = "one hundred" + " two".repeat(3000);
+		String text = longRun + ", three, " + longRun + " four " + "x".repeat(10_000) + " five";
+		assertEquals(List.of(longRun.length() + 2 + "+5=3.0", text.length() - 4 + "+4=5.0"), matches(text));
+	}
+
+	@Test
+	void testExtractorFindsNumbersInBytes() throws IOException {
+		byte[] bytes = "\u00e9 forty-two \u00e9 ninety".getBytes(StandardCharsets.UTF_8);
+		List<String> matches = new ArrayList<>();
+		extractor.extract(Channels.newChannel(new ByteArrayInputStream(bytes)),
+		                  (offset, length, value) -> matches.add(offset + "+" + length + "=" + value));
+		extractor.extract(ByteBuffer.wrap(bytes),
+		                  (offset, length, value) -> matches.add(offset + "+" + length + "=" + value));
+		assertEquals(List.of("3+9=42.0", "16+6=90.0", "3+9=42.0", "16+6=90.0"), matches);
+	}
+}
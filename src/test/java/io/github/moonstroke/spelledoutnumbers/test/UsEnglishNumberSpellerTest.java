@@ -2,11 +2,29 @@ package io.github.moonstroke.spelledoutnumbers.test;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvFileSource;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import io.github.moonstroke.spelledoutnumbers.NumberSpeller;
 
@@ -29,4 +47,216 @@ class UsEnglishNumberSpellerTest {
 	void testMinusZeroIsTranscribedUnsigned() {
 		assertEquals("zero", speller.spellOut(-0.));
 	}
+
+	@ParameterizedTest
+	@CsvFileSource(resources = {"/numbers.csv"}, numLinesToSkip = 1, maxCharsPerColumn = 4200)
+	void testSpellerAppendsToBuilder(double input, String expected) {
+		StringBuilder transcriber = new StringBuilder("> ");
+		speller.spellOut(input, transcriber);
+		assertEquals("> " + expected, transcriber.toString());
+	}
+
+	@ParameterizedTest
+	@CsvFileSource(resources = {"/numbers.csv"}, numLinesToSkip = 1, maxCharsPerColumn = 4200)
+	void testSpellerAppendsToWriter(double input, String expected) throws IOException {
+		StringWriter transcriber = new StringWriter().append("> ");
+		speller.spellOut(input, transcriber);
+		assertEquals("> " + expected, transcriber.toString());
+	}
+
+	@Test
+	void testSpellerAppendsWordsToSink() throws IOException {
+		List<String> chunks = new ArrayList<>();
+		Appendable transcriber = new Appendable() {
+			@Override
+			public Appendable append(CharSequence csq) {
+				chunks.add(csq.toString());
+				return this;
+			}
+
+			@Override
+			public Appendable append(CharSequence csq, int start, int end) {
+				return append(csq.subSequence(start, end));
+			}
+
+			@Override
+			public Appendable append(char c) {
+				return append(String.valueOf(c));
+			}
+		};
+		speller.spellOut(-1_000_001.25, transcriber);
+		assertEquals("minus one million one point two five", String.join("", chunks));
+		assertTrue(chunks.size() > 1);
+	}
+
+	@ParameterizedTest
+	@CsvFileSource(resources = {"/numbers.csv"}, numLinesToSkip = 1, maxCharsPerColumn = 4200)
+	void testSpellerWritesBytes(double input, String expected) {
+		ByteBuffer buffer = ByteBuffer.allocateDirect(4200).put((byte) '>');
+		speller.spellOut(input, buffer);
+		buffer.flip();
+		assertEquals('>', buffer.get());
+		assertEquals(expected, StandardCharsets.US_ASCII.decode(buffer).toString());
+	}
+
+	@Test
+	void testSpellerDoesNotOverflowBuffer() {
+		ByteBuffer buffer = ByteBuffer.allocate(16).put((byte) '>');
+		assertThrows(BufferOverflowException.class, () -> speller.spellOut(-1234.5, buffer));
+		assertEquals(1, buffer.position());
+	}
+
+	@ParameterizedTest
+	@CsvSource({"0, zero", "-42, minus forty-two", "1000001, one million one",
+	            "9223372036854775807, nine quintillion two hundred twenty-three quadrillion three hundred seventy-two"
+	            + " trillion thirty-six billion eight hundred fifty-four million seven hundred seventy-five thousand eight"
+	            + " hundred seven",
+	            "-9223372036854775808, minus nine quintillion two hundred twenty-three quadrillion three hundred"
+	            + " seventy-two trillion thirty-six billion eight hundred fifty-four million seven hundred seventy-five"
+	            + " thousand eight hundred eight"})
+	void testSpellerSpellsLongsExactly(long input, String expected) {
+		assertEquals(expected, speller.spellOut(input));
+	}
+
+	@ParameterizedTest
+	@CsvSource({"0, zero", "-0.5, minus zero point five", "1.50, one point five zero", "2E+3, two thousand",
+	            "12345678901234567890.000001, twelve quintillion three hundred forty-five quadrillion six hundred"
+	            + " seventy-eight trillion nine hundred one billion two hundred thirty-four million five hundred"
+	            + " sixty-seven thousand eight hundred ninety point zero zero zero zero zero one",
+	            "1E+306, one uncentillion", "1E+309, one duocentillion"})
+	void testSpellerSpellsBigDecimalsExactly(BigDecimal input, String expected) {
+		assertEquals(expected, speller.spellOut(input));
+	}
+
+	@ParameterizedTest
+	@CsvFileSource(resources = {"/numbers.csv"}, numLinesToSkip = 1, maxCharsPerColumn = 4200)
+	void testSpelledLengthIsLengthOfTranscription(double input, String expected) {
+		assertEquals(expected.length(), speller.spelledLength(input));
+	}
+
+	@ParameterizedTest
+	@ValueSource(longs = {0, -42, 1000001, 999_999_999_999L, Long.MAX_VALUE, Long.MIN_VALUE})
+	void testSpelledLengthOfLongIsLengthOfTranscription(long input) {
+		assertEquals(speller.spellOut(input).length(), speller.spelledLength(input));
+	}
+
+	@ParameterizedTest
+	@ValueSource(doubles = {-0., Double.NaN, Double.NEGATIVE_INFINITY, Double.MAX_VALUE, Double.MIN_VALUE, -.1 + -.2})
+	void testSpelledLengthOfSpecialValuesIsLengthOfTranscription(double input) {
+		assertEquals(speller.spellOut(input).length(), speller.spelledLength(input));
+	}
+
+	@ParameterizedTest
+	@CsvFileSource(resources = {"/numbers.csv"}, numLinesToSkip = 1, maxCharsPerColumn = 4200)
+	void testSpellerDecodesEncodedTranscriptions(double input, String expected) {
+		short[] tokens = speller.encode(expected);
+		assertNotNull(tokens);
+		assertEquals(expected, speller.decode(tokens));
+	}
+
+	@Test
+	void testSpellerEncodesAllRankNames() {
+		String transcription = speller.spellOut(new BigDecimal("1E+3000"));
+		assertEquals("one novenonagintanonigentillion", transcription);
+		assertEquals(transcription, speller.decode(speller.encode(transcription)));
+	}
+
+	@Test
+	void testSpellerRejectsBigDecimalsBeyondAllRankNames() {
+		assertEquals("minus nine hundred ninety-nine novenonagintanonigentillion",
+		             speller.spellOut(new BigDecimal("-9.99E+3002")));
+		assertThrows(IllegalArgumentException.class, () -> speller.spellOut(new BigDecimal("1E+3003")));
+		assertThrows(IllegalArgumentException.class, () -> speller.spellOut(new BigDecimal("-1.5E+3003")));
+		/* Rejected before its billion digits are written out */
+		assertThrows(IllegalArgumentException.class, () -> speller.spellOut(new BigDecimal("1E+1000000000")));
+		assertThrows(IllegalArgumentException.class, () -> speller.spellOut(BigDecimal.valueOf(1, Integer.MIN_VALUE)));
+	}
+
+	@Test
+	void testSpellerDoesNotDecodeForeignTokens() {
+		assertNull(speller.decode(new short[] {1, -1}));
+		assertNull(speller.decode(new short[] {Short.MAX_VALUE}));
+	}
+
+	@Test
+	void testSpellerDoesNotEncodeUnknownWords() {
+		assertNull(speller.encode("one zillion"));
+		assertNull(speller.encode("one  million"));
+	}
+
+	@Test
+	void testIntegralPartOfFractionIsZero() {
+		assertEquals("zero point five", speller.spellOut(.5));
+	}
+
+	@Test
+	void testDecimalPartIsShortest() {
+		assertEquals("zero point three" + " zero".repeat(15) + " four",
+		             speller.spellOut(.1 + .2));
+		assertEquals("zero point zero zero zero zero one", speller.spellOut(1e-5));
+	}
+
+	@Test
+	void testSpellerIsThreadSafe() throws InterruptedException, ExecutionException {
+		double[] inputs = new double[1000];
+		String[] expected = new String[inputs.length];
+		for (int i = 0; i < inputs.length; ++i) {
+			inputs[i] = i * Math.PI / 7;
+			expected[i] = speller.spellOut(inputs[i]);
+		}
+		int threadsCount = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threadsCount);
+		try {
+			List<Callable<Integer>> tasks = new ArrayList<>();
+			for (int t = 0; t < threadsCount; ++t) {
+				int offset = t;
+				tasks.add(() -> {
+					int mismatchesCount = 0;
+					for (int round = 0; round < 50; ++round) {
+						for (int i = 0; i < inputs.length; ++i) {
+							int j = (i + offset * 127) % inputs.length;
+							if (!expected[j].equals(speller.spellOut(inputs[j]))) {
+								++mismatchesCount;
+							}
+						}
+					}
+					return mismatchesCount;
+				});
+			}
+			for (Future<Integer> mismatchesCount : executor.invokeAll(tasks)) {
+				assertEquals(0, mismatchesCount.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void testSpellerSpellsOutArraysInParallel() {
+		double[] inputs = new double[10_000];
+		for (int i = 0; i < inputs.length; ++i) {
+			inputs[i] = i * 1e6 / 3;
+		}
+		String[] transcriptions = new String[inputs.length];
+		speller.parallelSpellOut(inputs, transcriptions);
+		for (int i = 0; i < inputs.length; ++i) {
+			assertEquals(speller.spellOut(inputs[i]), transcriptions[i]);
+		}
+	}
+
+	@ParameterizedTest
+	@CsvSource({"-2100, 2100", "999999990, 1000000010", "-1000000010, -999999990",
+	            "9223372036854775000, 9223372036854775807", "-9223372036854775808, -9223372036854775000", "5, 5",
+	            "5, -5"})
+	void testSpellerSpellsRangesLikeValues(long from, long to) {
+		List<String> expected = LongStream.range(from, to).mapToObj(speller::spellOut).collect(Collectors.toList());
+		assertEquals(expected, speller.spellRange(from, to).collect(Collectors.toList()));
+	}
+
+	@Test
+	void testSpellerSpellsRangesInParallel() {
+		List<String> expected = LongStream.range(-100_000, 100_000).mapToObj(speller::spellOut)
+		                                  .collect(Collectors.toList());
+		assertEquals(expected, speller.spellRange(-100_000, 100_000).parallel().collect(Collectors.toList()));
+	}
 }
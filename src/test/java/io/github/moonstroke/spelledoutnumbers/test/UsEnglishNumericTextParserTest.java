@@ -2,11 +2,22 @@ package io.github.moonstroke.spelledoutnumbers.test;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.ParsePosition;
 import java.util.Locale;
+import java.util.Random;
+import java.util.SplittableRandom;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvFileSource;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import io.github.moonstroke.spelledoutnumbers.NumberSpeller;
 import io.github.moonstroke.spelledoutnumbers.NumericTextParser;
 
 class UsEnglishNumericTextParserTest {
@@ -34,6 +45,11 @@ class UsEnglishNumericTextParserTest {
 		assertEquals(expected, parser.parse(input));
 	}
 
+	@Test
+	void testParserParsesZeroDigits() {
+		assertEquals(.05, parser.parse("zero point zero five"));
+	}
+
 	@Test
 	void testMinusZeroIsParsedAsMinusZero() {
 		assertEquals(-0., parser.parse("minus zero"));
@@ -44,4 +60,184 @@ class UsEnglishNumericTextParserTest {
 	void testParserFailsOnInvalidTranscriptions(String input) {
 		assertThrows(NumberFormatException.class, () -> parser.parse(input));
 	}
+
+	@ParameterizedTest
+	@CsvFileSource(resources = {"/numbers.csv"}, numLinesToSkip = 1, maxCharsPerColumn = 4200)
+	void testValidatorAcceptsValidInputs(double value, String input) {
+		assertTrue(parser.isValid(input));
+	}
+
+	@ParameterizedTest
+	@CsvFileSource(resources = {"/invalid-transcriptions.txt"})
+	void testValidatorRejectsInvalidTranscriptions(String input) {
+		assertFalse(parser.isValid(input));
+	}
+
+	@Test
+	void testValidatorAgreesWithParser() {
+		String[] words = {
+			"", "zero", "one", "five", "twelve", "forty", "forty-two", "hundred", "thousand", "million", "billion",
+			"uncentillion", "point", "minus", "infinity", "not", "a", "number", "ty", "onee"
+		};
+		SplittableRandom random = new SplittableRandom(0);
+		ParsePosition position = new ParsePosition(0);
+		for (int i = 0; i < 100_000; ++i) {
+			StringBuilder text = new StringBuilder(words[random.nextInt(words.length)]);
+			for (int j = random.nextInt(6); j > 0; --j) {
+				text.append(' ').append(words[random.nextInt(words.length)]);
+			}
+			parser.tryParse(text, 0, text.length(), position);
+			assertEquals(position.getErrorIndex() < 0, parser.isValid(text), text::toString);
+		}
+	}
+
+	@ParameterizedTest
+	@CsvFileSource(resources = {"/numbers.csv"}, numLinesToSkip = 1, maxCharsPerColumn = 4200)
+	void testParserParsesValidRegions(double expected, String input) {
+		CharBuffer text = CharBuffer.wrap("it is " + input + ", exactly");
+		assertEquals(expected, parser.parse(text, "it is ".length(), "it is ".length() + input.length()));
+	}
+
+	@ParameterizedTest
+	@CsvSource({"0, zero", "-42, minus forty-two", "1000001.5, one million one point five",
+	            "1E+12, one trillion"})
+	void testParserParsesBytes(double expected, String input) {
+		ByteBuffer bytes = ByteBuffer.allocateDirect(64);
+		bytes.put("> ".getBytes(StandardCharsets.US_ASCII)).mark();
+		bytes.put(input.getBytes(StandardCharsets.US_ASCII)).limit(bytes.position()).reset();
+		assertEquals(expected, parser.parseUtf8(bytes));
+		assertFalse(bytes.hasRemaining());
+	}
+
+	@Test
+	void testParserDoesNotConsumeInvalidBytes() {
+		ByteBuffer bytes = ByteBuffer.wrap("forty-tw\u00f6".getBytes(StandardCharsets.ISO_8859_1));
+		assertThrows(NumberFormatException.class, () -> parser.parseUtf8(bytes));
+		assertEquals(0, bytes.position());
+	}
+
+	@Test
+	void testDefaultParserDecodesUtf8() {
+		/* Parses the number of characters of the text */
+		NumericTextParser lengthParser = new NumericTextParser() {
+			@Override
+			public double parse(String text) {
+				return text.length();
+			}
+
+			@Override
+			public Locale getSupportedLocale() {
+				return Locale.ROOT;
+			}
+		};
+		ByteBuffer bytes = ByteBuffer.wrap("d\u00e9j\u00e0 vu".getBytes(StandardCharsets.UTF_8));
+		assertEquals(7, lengthParser.parseUtf8(bytes));
+		assertFalse(bytes.hasRemaining());
+		ByteBuffer invalidBytes = ByteBuffer.wrap(new byte[] {'o', 'n', (byte) 0xe9});
+		assertThrows(NumberFormatException.class, () -> lengthParser.parseUtf8(invalidBytes));
+		assertEquals(0, invalidBytes.position());
+	}
+
+	@Test
+	void testParserCannotParseRegionOutOfBounds() {
+		assertThrows(IndexOutOfBoundsException.class, () -> parser.parse("one", 1, 4));
+	}
+
+	@ParameterizedTest
+	@CsvSource({"one hundred one, -1", "not a number, -1", "zero zero, 5", "one hundred two hundred, 16",
+	            "twenty point minus, 13", "one point, 9", "minus, 5", "not a, 5", "minus not a number, 6"})
+	void testParserReportsErrorIndex(String input, int expectedErrorIndex) {
+		/* Leading characters, to check that the indices are in the text */
+		String text = "..." + input;
+		ParsePosition position = new ParsePosition(3);
+		parser.tryParse(text, 3, text.length(), position);
+		if (expectedErrorIndex < 0) {
+			assertEquals(-1, position.getErrorIndex());
+			assertEquals(text.length(), position.getIndex());
+		} else {
+			assertEquals(expectedErrorIndex + 3, position.getErrorIndex());
+			assertEquals(3, position.getIndex());
+		}
+	}
+
+	@ParameterizedTest
+	@CsvSource({"0, zero", "0, minus zero", "-42, minus forty-two", "1000001, one million one",
+	            "9223372036854775807, nine quintillion two hundred twenty-three quadrillion three hundred seventy-two"
+	            + " trillion thirty-six billion eight hundred fifty-four million seven hundred seventy-five thousand eight"
+	            + " hundred seven",
+	            "-9223372036854775808, minus nine quintillion two hundred twenty-three quadrillion three hundred"
+	            + " seventy-two trillion thirty-six billion eight hundred fifty-four million seven hundred seventy-five"
+	            + " thousand eight hundred eight"})
+	void testParserParsesLongsExactly(long expected, String input) {
+		assertEquals(expected, parser.parseLong(input));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"one point five", "infinity", "not a number", "ten quintillion", "one sextillion",
+	                        "nine quintillion two hundred twenty-three quadrillion three hundred seventy-two trillion"
+	                        + " thirty-six billion eight hundred fifty-four million seven hundred seventy-five thousand"
+	                        + " eight hundred eight"})
+	void testParserRejectsNonLongs(String input) {
+		assertThrows(NumberFormatException.class, () -> parser.parseLong(input));
+	}
+
+	@ParameterizedTest
+	@CsvSource({"0, minus zero", "-0.5, minus zero point five", "1.50, one point five zero",
+	            "12345678901234567890.000001, twelve quintillion three hundred forty-five quadrillion six hundred"
+	            + " seventy-eight trillion nine hundred one billion two hundred thirty-four million five hundred"
+	            + " sixty-seven thousand eight hundred ninety point zero zero zero zero zero one"})
+	void testParserParsesBigDecimalsExactly(BigDecimal expected, String input) {
+		assertEquals(expected, parser.parseBigDecimal(input));
+	}
+
+	@Test
+	void testParserParsesAllRankNames() {
+		NumberSpeller speller = NumberSpeller.getNumberSpellerFor(Locale.US);
+		for (int rank = 1; rank <= 1000; ++rank) {
+			BigDecimal value = BigDecimal.valueOf(42, -3 * rank);
+			assertEquals(0, value.compareTo(parser.parseBigDecimal(speller.spellOut(value))), () -> value.toString());
+		}
+	}
+
+	@Test
+	void testParserParsesValuesBeyondDoublesAsInfinite() {
+		assertEquals(Double.POSITIVE_INFINITY, parser.parse("one novenonagintanonigentillion"));
+		assertEquals(Double.NEGATIVE_INFINITY, parser.parse("minus one duocentillion"));
+	}
+
+	@Test
+	void testParserRoundsLongDecimalPartsCorrectly() {
+		/* Just below and just above the midpoint between 0.1 and the next double, 0.10000000000000001249... */
+		assertEquals(0.1, parser.parse("zero point one" + " zero".repeat(15) + " one two"));
+		assertEquals(Math.nextUp(0.1), parser.parse("zero point one" + " zero".repeat(15) + " one three"));
+	}
+
+	@Test
+	void testParserRoundsLongTranscriptionsCorrectly() {
+		NumberSpeller speller = NumberSpeller.getNumberSpellerFor(Locale.US);
+		SplittableRandom random = new SplittableRandom(0);
+		for (int i = 0; i < 2_000; ++i) {
+			/* From a few to many significant digits, from the subnormal values to beyond the range of the doubles */
+			BigInteger unscaledValue = new BigInteger(1 + random.nextInt(200), new Random(random.nextLong()));
+			BigDecimal value = new BigDecimal(unscaledValue, random.nextInt(-320, 400));
+			assertEquals(value.doubleValue(), parser.parse(speller.spellOut(value)), value::toString);
+		}
+		/* Halfway between the two least subnormal values, then just above */
+		assertEquals(0., parser.parse(speller.spellOut(BigDecimal.valueOf(Double.MIN_VALUE).divide(BigDecimal.valueOf(2)))));
+		assertEquals(Double.MIN_VALUE, parser.parse(speller.spellOut(new BigDecimal("2.4703282292062328E-324"))));
+	}
+
+	@Test
+	void testParserReportsFailuresOfArraysPerElement() {
+		CharSequence[] inputs = {"one", "oneteen", "two hundred", "", "three point one four"};
+		double[] values = new double[inputs.length];
+		NumberFormatException[] errors = new NumberFormatException[inputs.length];
+		assertEquals(2, parser.parallelParse(inputs, values, errors));
+		assertArrayEquals(new double[] {1, Double.NaN, 200, Double.NaN, 3.14}, values);
+		assertNull(errors[0]);
+		assertNotNull(errors[1]);
+		assertNull(errors[2]);
+		assertNotNull(errors[3]);
+		assertNull(errors[4]);
+	}
 }